@@ -0,0 +1,58 @@
+package com.bumil.audio_fall_care.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JwtFilter 요청당 토큰 검증 비용 비교.
+ *
+ * ./gradlew jmh
+ *
+ * - legacyFilterPath: 이전 방식 (parser를 매번 생성, parseToken + isAccessToken으로 두 번 검증)
+ * - parseOnce: parser 재사용, 한 번 검증 후 Claims로 타입 확인
+ * - cachedParse: 검증 결과 캐시 적중 (폴링 클라이언트의 반복 요청)
+ */
+@State(Scope.Benchmark)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-which-is-long-enough-for-hs256";
+
+    private SecretKey secretKey;
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 1_209_600_000L, 10_000L, 300L);
+        uncachedJwtUtil = new JwtUtil(SECRET, 3_600_000L, 1_209_600_000L, 0L, 300L);
+        accessToken = jwtUtil.createAccessToken(1L, "benchmark");
+        jwtUtil.parseAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload();
+        Claims again = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload();
+        return claims != null && "access".equals(again.get("token_type"));
+    }
+
+    @Benchmark
+    public boolean parseOnce() {
+        return uncachedJwtUtil.isAccessToken(uncachedJwtUtil.parseAccessToken(accessToken));
+    }
+
+    @Benchmark
+    public boolean cachedParse() {
+        return jwtUtil.isAccessToken(jwtUtil.parseAccessToken(accessToken));
+    }
+}
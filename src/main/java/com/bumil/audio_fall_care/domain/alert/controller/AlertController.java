@@ -1,19 +1,24 @@
 package com.bumil.audio_fall_care.domain.alert.controller;
 
-import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
+import com.bumil.audio_fall_care.domain.alert.dto.request.AlertReadRequest;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertPageResponse;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertReadResponse;
 import com.bumil.audio_fall_care.domain.alert.service.AlertService;
+import com.bumil.audio_fall_care.domain.alert.service.AlertStreamService;
 import com.bumil.audio_fall_care.global.common.ApiResponse;
 import com.bumil.audio_fall_care.global.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "알림", description = "알림 조회 API")
 @RestController
@@ -22,22 +27,48 @@ import java.util.List;
 public class AlertController {
 
     private final AlertService alertService;
+    private final AlertStreamService alertStreamService;
 
     @Operation(
             summary = "알림 목록 조회",
-            description = "로그인한 사용자에게 온 알림 목록을 조회합니다."
+            description = "로그인한 사용자에게 온 알림 목록을 최신순으로 조회합니다. "
+                    + "응답의 nextCursor를 cursor 파라미터로 넘기면 다음 페이지를 조회하며, 읽지 않은 알림 개수를 함께 반환합니다. "
+                    + "(size 기본 20, 최대 100)"
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<List<AlertResponse>>> findAllByUserId(@AuthenticationPrincipal CustomUserDetails userDetails) {
-        List<AlertResponse> alerts = alertService.findAllByUserId(userDetails.getUserId());
+    public ResponseEntity<ApiResponse<AlertPageResponse>> findAlerts(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer size,
+                                                                     @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        AlertPageResponse alerts = alertService.findAlerts(userDetails.getUserId(), cursor, size, unreadOnly);
         return ResponseEntity.ok(ApiResponse.ok(alerts));
     }
 
+    @Operation(
+            summary = "실시간 알림 구독 (SSE)",
+            description = "로그인한 사용자의 새 알림을 Server-Sent Events로 수신합니다. "
+                    + "연결 직후 connected 이벤트를, 알림이 생성되거나 병합으로 갱신될 때마다 alert 이벤트(알림 응답 JSON)를 보냅니다. "
+                    + "연결이 끊기면 클라이언트가 재연결한 뒤 알림 목록을 한 번 조회해 누락분을 보정합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "구독 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter streamAlerts(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                   HttpServletResponse response) {
+        // 리버스 프록시(nginx) 응답 버퍼링 비활성화
+        response.setHeader("X-Accel-Buffering", "no");
+        return alertStreamService.subscribe(userDetails.getUserId());
+    }
+
     @Operation(
             summary = "읽지 않은 알림 개수 조회",
             description = "로그인한 사용자에게 온 알림 중 읽지 않은 알림의 개수를 조회합니다."
@@ -68,4 +99,23 @@ public class AlertController {
         alertService.markAsRead(alertId, userDetails.getUserId());
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "알림 일괄 읽음 처리",
+            description = "alertIds로 지정한 알림 또는 all=true로 전체 알림을 한 번에 읽음 처리합니다. "
+                    + "all=true일 때 before를 지정하면 해당 시각 이전에 생성된 알림만 처리하며, 실제로 읽음 처리된 개수를 반환합니다. "
+                    + "(alertIds 최대 1000개)"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "alertIds와 all을 모두 지정했거나 모두 지정하지 않음, 또는 all 없이 before를 지정함"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PatchMapping("/read")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<AlertReadResponse>> markAllAsRead(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                        @Valid @RequestBody AlertReadRequest request) {
+        AlertReadResponse response = alertService.markAllAsRead(userDetails.getUserId(), request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
 }
@@ -0,0 +1,12 @@
+package com.bumil.audio_fall_care.domain.alert.dto;
+
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
+
+/**
+ * 인스턴스 간 알림 스트림 전달 메시지 (Redis pub/sub)
+ */
+public record AlertStreamMessage(
+        Long userId,
+        AlertResponse alert
+) {
+}
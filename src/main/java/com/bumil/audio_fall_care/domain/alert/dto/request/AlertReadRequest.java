@@ -0,0 +1,24 @@
+package com.bumil.audio_fall_care.domain.alert.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 일괄 읽음 처리 요청. alertIds 또는 all=true 중 하나만 지정한다.
+ * all=true일 때 before를 지정하면 해당 시각 이전에 생성된 알림만 읽음 처리한다. (alertIds와 함께 지정할 수 없다)
+ */
+public record AlertReadRequest(
+        @Size(max = 1000, message = "한 번에 최대 1000개까지 읽음 처리할 수 있습니다.")
+        List<@NotNull Long> alertIds,
+
+        boolean all,
+
+        LocalDateTime before
+) {
+    public boolean hasAlertIds() {
+        return alertIds != null && !alertIds.isEmpty();
+    }
+}
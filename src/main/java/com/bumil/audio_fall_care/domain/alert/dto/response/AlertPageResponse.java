@@ -0,0 +1,21 @@
+package com.bumil.audio_fall_care.domain.alert.dto.response;
+
+import com.bumil.audio_fall_care.global.common.CursorPageResponse;
+
+import java.util.List;
+
+public record AlertPageResponse(
+        List<AlertResponse> content,
+        String nextCursor,
+        boolean hasNext,
+        long unreadCount
+) {
+    public static AlertPageResponse of(CursorPageResponse<AlertResponse> page, long unreadCount) {
+        return new AlertPageResponse(
+                page.content(),
+                page.nextCursor(),
+                page.hasNext(),
+                unreadCount
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.bumil.audio_fall_care.domain.alert.dto.response;
+
+public record AlertReadResponse(
+        int updatedCount
+) {
+    public static AlertReadResponse of(int updatedCount) {
+        return new AlertReadResponse(updatedCount);
+    }
+}
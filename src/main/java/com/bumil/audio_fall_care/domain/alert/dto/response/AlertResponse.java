@@ -10,15 +10,24 @@ public record AlertResponse(
         AlertType type,
         String message,
         boolean isRead,
+        int eventCount,
         LocalDateTime createdAt
 ) {
     public static AlertResponse from(Alert alert) {
+        return of(alert, alert.getId(), alert.getCreatedAt());
+    }
+
+    /**
+     * JDBC 배치 저장처럼 엔티티에 ID, 생성 시각이 채워지지 않은 알림용
+     */
+    public static AlertResponse of(Alert alert, Long id, LocalDateTime createdAt) {
         return new AlertResponse(
-                alert.getId(),
+                id,
                 alert.getType(),
                 alert.getMessage(),
                 alert.getIsRead(),
-                alert.getCreatedAt()
+                alert.getEventCount(),
+                createdAt
         );
     }
 }
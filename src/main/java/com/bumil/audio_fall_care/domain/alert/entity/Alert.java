@@ -1,12 +1,22 @@
 package com.bumil.audio_fall_care.domain.alert.entity;
 
+import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
 import com.bumil.audio_fall_care.domain.user.entity.User;
 import com.bumil.audio_fall_care.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "alerts")
+@Table(
+        name = "alerts",
+        indexes = {
+                @Index(name = "idx_alerts_user_created_at_id", columnList = "user_id, created_at DESC, id DESC"),
+                @Index(name = "idx_alerts_user_is_read_created_at_id", columnList = "user_id, is_read, created_at DESC, id DESC"),
+                @Index(name = "idx_alerts_recorder_first_detected_at", columnList = "recorder_id, first_detected_at DESC")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -21,6 +31,13 @@ public class Alert extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * 낙상 알림 병합 기준 리코더. 리코더와 무관한 알림은 null
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recorder_id")
+    private Recorder recorder;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AlertType type;
@@ -32,7 +49,41 @@ public class Alert extends BaseTimeEntity {
     @Builder.Default
     private Boolean isRead = false;
 
+    /**
+     * 병합 윈도우 내에서 이 알림으로 합쳐진 감지 횟수. 병합 도입 이전 알림은 null
+     */
+    @Builder.Default
+    private Integer eventCount = 1;
+
+    private Double maxConfidence;
+
+    private LocalDateTime firstDetectedAt;
+
+    private LocalDateTime lastDetectedAt;
+
     public void markAsRead() {
         this.isRead = true;
     }
+
+    /**
+     * 병합 윈도우 내 추가 감지를 반영한다. 최고 신뢰도, 감지 횟수, 감지 구간을 갱신한다.
+     */
+    public void absorb(double confidence, LocalDateTime detectedAt) {
+        this.eventCount = getEventCount() + 1;
+        this.maxConfidence = maxConfidence == null ? confidence : Math.max(maxConfidence, confidence);
+        if (firstDetectedAt == null || detectedAt.isBefore(firstDetectedAt)) {
+            this.firstDetectedAt = detectedAt;
+        }
+        if (lastDetectedAt == null || detectedAt.isAfter(lastDetectedAt)) {
+            this.lastDetectedAt = detectedAt;
+        }
+    }
+
+    public void updateMessage(String message) {
+        this.message = message;
+    }
+
+    public int getEventCount() {
+        return eventCount != null ? eventCount : 1;
+    }
 }
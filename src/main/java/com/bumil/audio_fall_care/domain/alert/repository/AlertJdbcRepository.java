@@ -0,0 +1,72 @@
+package com.bumil.audio_fall_care.domain.alert.repository;
+
+import com.bumil.audio_fall_care.domain.alert.entity.Alert;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Alert 대량 저장용 JDBC 리포지토리.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlertJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO alerts (user_id, recorder_id, type, message, is_read, event_count, max_confidence,
+                                first_detected_at, last_detected_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 입력 순서대로 생성된 ID 목록
+     */
+    public List<Long> batchInsert(List<Alert> alerts, LocalDateTime now) {
+        if (alerts.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Alert alert = alerts.get(i);
+                        ps.setLong(1, alert.getUser().getId());
+                        ps.setObject(2, alert.getRecorder() != null ? alert.getRecorder().getId() : null, Types.BIGINT);
+                        ps.setString(3, alert.getType().name());
+                        ps.setString(4, alert.getMessage());
+                        ps.setBoolean(5, alert.getIsRead());
+                        ps.setInt(6, alert.getEventCount());
+                        ps.setObject(7, alert.getMaxConfidence(), Types.DOUBLE);
+                        ps.setObject(8, alert.getFirstDetectedAt());
+                        ps.setObject(9, alert.getLastDetectedAt());
+                        ps.setObject(10, now);
+                        ps.setObject(11, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return alerts.size();
+                    }
+                },
+                keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+}
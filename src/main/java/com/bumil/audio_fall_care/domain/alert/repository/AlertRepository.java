@@ -1,13 +1,114 @@
 package com.bumil.audio_fall_care.domain.alert.repository;
 
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
 import com.bumil.audio_fall_care.domain.alert.entity.Alert;
+import com.bumil.audio_fall_care.domain.alert.entity.AlertType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface AlertRepository extends JpaRepository<Alert, Long> {
-    List<Alert> findByUserIdOrderByCreatedAtDesc(Long userId);
-    Optional<Alert> findByIdAndUserId(Long alertId, Long userId);
+    /**
+     * 목록 조회는 응답에 필요한 컬럼만 AlertResponse로 바로 읽는다. (엔티티 로딩, 영속성 컨텍스트 등록 없음)
+     */
+    @Query("SELECT new com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse(" +
+            "a.id, a.type, a.message, a.isRead, COALESCE(a.eventCount, 1), a.createdAt) FROM Alert a " +
+            "WHERE a.user.id = :userId " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AlertResponse> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT new com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse(" +
+            "a.id, a.type, a.message, a.isRead, COALESCE(a.eventCount, 1), a.createdAt) FROM Alert a " +
+            "WHERE a.user.id = :userId AND a.isRead = false " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AlertResponse> findUnreadFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * (createdAt, id) 커서 이후 페이지 조회. idx_alerts_user_created_at_id 인덱스 범위 스캔으로 처리된다.
+     */
+    @Query("SELECT new com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse(" +
+            "a.id, a.type, a.message, a.isRead, COALESCE(a.eventCount, 1), a.createdAt) FROM Alert a " +
+            "WHERE a.user.id = :userId " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AlertResponse> findPageByUserIdBefore(@Param("userId") Long userId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Limit limit);
+
+    @Query("SELECT new com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse(" +
+            "a.id, a.type, a.message, a.isRead, COALESCE(a.eventCount, 1), a.createdAt) FROM Alert a " +
+            "WHERE a.user.id = :userId AND a.isRead = false " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AlertResponse> findUnreadPageByUserIdBefore(@Param("userId") Long userId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Limit limit);
+
+    /**
+     * 병합 윈도우 후보 알림 조회. idx_alerts_recorder_first_detected_at 인덱스 범위 스캔으로 처리된다.
+     * 알림은 첫 감지 이후에 생성되므로 createdAt 조건은 결과를 바꾸지 않고, 월 파티션 전환 후 최근 파티션만 읽게 한다.
+     */
+    @Query("SELECT a FROM Alert a " +
+            "WHERE a.recorder.id IN :recorderIds AND a.type = :type AND a.firstDetectedAt >= :since " +
+            "AND a.createdAt >= :since " +
+            "ORDER BY a.firstDetectedAt DESC")
+    List<Alert> findRecentByRecorderIds(@Param("recorderIds") Collection<Long> recorderIds,
+                                        @Param("type") AlertType type,
+                                        @Param("since") LocalDateTime since);
+
     long countByUserIdAndIsReadFalse(Long userId);
+
+    /**
+     * 리코더 삭제 전 알림의 리코더 참조를 끊는다. 알림 자체는 사용자에게 남긴다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Alert a SET a.recorder = null WHERE a.recorder.id = :recorderId")
+    int detachRecorder(@Param("recorderId") Long recorderId);
+
+    @Query("SELECT a.user.id AS userId, COUNT(a) AS unreadCount FROM Alert a " +
+            "WHERE a.user.id IN :userIds AND a.isRead = false " +
+            "GROUP BY a.user.id")
+    List<UnreadAlertCountProjection> countUnreadByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 읽지 않은 알림만 읽음 처리한다. 실제로 상태가 바뀐 경우에만 1을 반환하므로
+     * 동시 요청에서도 읽지 않은 알림 카운터가 한 번만 감소한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Alert a SET a.isRead = true, a.updatedAt = :now " +
+            "WHERE a.id = :alertId AND a.user.id = :userId AND a.isRead = false")
+    int markAsReadIfUnread(@Param("alertId") Long alertId,
+                           @Param("userId") Long userId,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Alert a SET a.isRead = true, a.updatedAt = :now " +
+            "WHERE a.user.id = :userId AND a.id IN :alertIds AND a.isRead = false")
+    int markAsReadByIdIn(@Param("userId") Long userId,
+                         @Param("alertIds") Collection<Long> alertIds,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * idx_alerts_user_is_read_created_at_id 인덱스로 읽지 않은 알림만 찾아 갱신한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Alert a SET a.isRead = true, a.updatedAt = :now " +
+            "WHERE a.user.id = :userId AND a.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Alert a SET a.isRead = true, a.updatedAt = :now " +
+            "WHERE a.user.id = :userId AND a.isRead = false AND a.createdAt <= :before")
+    int markAllAsReadBefore(@Param("userId") Long userId,
+                            @Param("before") LocalDateTime before,
+                            @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,7 @@
+package com.bumil.audio_fall_care.domain.alert.repository;
+
+public interface UnreadAlertCountProjection {
+    Long getUserId();
+
+    long getUnreadCount();
+}
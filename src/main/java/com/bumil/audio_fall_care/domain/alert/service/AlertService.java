@@ -1,12 +1,13 @@
 package com.bumil.audio_fall_care.domain.alert.service;
 
-import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
-
-import java.util.List;
+import com.bumil.audio_fall_care.domain.alert.dto.request.AlertReadRequest;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertPageResponse;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertReadResponse;
 
 public interface AlertService {
 
-    List<AlertResponse> findAllByUserId(Long userId);
+    AlertPageResponse findAlerts(Long userId, String cursor, Integer size, boolean unreadOnly);
     long countUnreadAlerts(Long userId);
     void markAsRead(Long alertId, Long userId);
+    AlertReadResponse markAllAsRead(Long userId, AlertReadRequest request);
 }
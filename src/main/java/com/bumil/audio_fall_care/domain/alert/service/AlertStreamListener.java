@@ -0,0 +1,54 @@
+package com.bumil.audio_fall_care.domain.alert.service;
+
+import com.bumil.audio_fall_care.domain.alert.dto.AlertStreamMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Redis 알림 스트림 채널 구독. 수신한 알림을 이 인스턴스에 연결된 구독자에게 전달한다.
+ */
+@Slf4j
+@Component
+public class AlertStreamListener implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final AlertStreamService alertStreamService;
+    private final String channel;
+
+    public AlertStreamListener(
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            AlertStreamService alertStreamService,
+            @Value("${alert.stream.channel:alert:stream}") String channel
+    ) {
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.alertStreamService = alertStreamService;
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    void register() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            AlertStreamMessage streamMessage = objectMapper.readValue(message.getBody(), AlertStreamMessage.class);
+            alertStreamService.send(streamMessage.userId(), streamMessage.alert());
+        } catch (IOException e) {
+            log.warn("[SSE] 알림 스트림 메시지 역직렬화 실패: error={}", e.getMessage());
+        }
+    }
+}
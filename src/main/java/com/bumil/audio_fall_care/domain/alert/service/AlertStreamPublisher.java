@@ -0,0 +1,61 @@
+package com.bumil.audio_fall_care.domain.alert.service;
+
+import com.bumil.audio_fall_care.domain.alert.dto.AlertStreamMessage;
+import com.bumil.audio_fall_care.global.common.AfterCommit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 알림 스트림 이벤트 발행.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 Redis 채널로 발행하여, 롤백된 알림이 전달되지 않게 한다.
+ * 모든 인스턴스가 채널을 구독하고 자기에게 연결된 사용자에게만 전달한다.
+ * Redis 발행에 실패하면 이 인스턴스의 구독자에게만 직접 전달한다.
+ */
+@Slf4j
+@Component
+public class AlertStreamPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AlertStreamService alertStreamService;
+    private final String channel;
+
+    public AlertStreamPublisher(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            AlertStreamService alertStreamService,
+            @Value("${alert.stream.channel:alert:stream}") String channel
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.alertStreamService = alertStreamService;
+        this.channel = channel;
+    }
+
+    public void publishAfterCommit(List<AlertStreamMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        AfterCommit.run(() -> publishNow(messages));
+    }
+
+    private void publishNow(List<AlertStreamMessage> messages) {
+        for (AlertStreamMessage message : messages) {
+            try {
+                redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+            } catch (JsonProcessingException | DataAccessException e) {
+                log.warn("[SSE] 알림 스트림 발행 실패, 로컬 구독자에게만 전달: userId={}, alertId={}, error={}",
+                        message.userId(), message.alert().id(), e.getMessage());
+                alertStreamService.send(message.userId(), message.alert());
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.bumil.audio_fall_care.domain.alert.service;
+
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 인스턴스에 연결된 알림 SSE 구독 관리.
+ * 연결은 서블릿 비동기 요청으로 유지되므로 요청 스레드를 점유하지 않는다.
+ * 다른 인스턴스에서 생성된 알림은 AlertStreamListener가 Redis pub/sub으로 받아 전달한다.
+ */
+@Slf4j
+@Service
+public class AlertStreamService {
+
+    private static final String ALERT_EVENT = "alert";
+    private static final String CONNECTED_EVENT = "connected";
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public AlertStreamService(@Value("${alert.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitters.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(userId, emitter));
+
+        // 첫 이벤트로 응답 헤더를 내려보내 프록시가 스트림을 바로 열도록 한다
+        send(userId, emitter, SseEmitter.event().name(CONNECTED_EVENT).data(CONNECTED_EVENT));
+
+        log.debug("[SSE] 알림 스트림 구독: userId={}", userId);
+        return emitter;
+    }
+
+    /**
+     * 이 인스턴스에 연결된 사용자 구독에만 전달한다. 구독이 없으면 아무것도 하지 않는다.
+     */
+    public void send(Long userId, AlertResponse alert) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : userEmitters) {
+            send(userId, emitter, SseEmitter.event()
+                    .id(String.valueOf(alert.id()))
+                    .name(ALERT_EVENT)
+                    .data(alert, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주석 이벤트를 주기적으로 보낸다.
+     * 끊긴 연결은 이때 전송 실패로 정리된다.
+     */
+    @Scheduled(fixedDelayString = "${alert.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                send(userId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    public int countConnections() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void completeAll() {
+        emitters.values().forEach(userEmitters -> userEmitters.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결: 컨테이너가 onError/onCompletion을 호출하므로 목록에서만 제거한다
+            log.debug("[SSE] 알림 스트림 전송 실패: userId={}, error={}", userId, e.getMessage());
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
@@ -0,0 +1,197 @@
+package com.bumil.audio_fall_care.domain.alert.service;
+
+import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
+import com.bumil.audio_fall_care.domain.alert.repository.UnreadAlertCountProjection;
+import com.bumil.audio_fall_care.global.common.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 Redis 카운터.
+ * 조회 시 키가 없으면 DB에서 한 번 세어 적재하고, 이후에는 알림 생성/읽음 처리 시점에 증감만 반영한다.
+ * 증감은 커밋 이후에, 키가 있을 때만 적용한다. (없으면 다음 조회에서 DB 기준으로 다시 적재)
+ * 적재와 증감이 엇갈려 생긴 오차는 주기적인 reconcile에서 바로잡는다.
+ * Redis 장애 시 DB COUNT로 응답한다.
+ */
+@Slf4j
+@Component
+public class UnreadAlertCounter {
+
+    static final String KEY_PREFIX = "ALERT:UNREAD:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AlertRepository alertRepository;
+    private final RedisScript<Long> addScript;
+    private final RedisScript<Long> compareAndDeleteScript;
+    private final Duration ttl;
+    private final int reconcileBatchSize;
+
+    public UnreadAlertCounter(
+            RedisTemplate<String, String> redisTemplate,
+            AlertRepository alertRepository,
+            @Value("${alert.unread-counter.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${alert.unread-counter.reconcile-batch-size:500}") int reconcileBatchSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.alertRepository = alertRepository;
+        this.addScript = RedisScript.of(new ClassPathResource("redis/unread_counter_add.lua"), Long.class);
+        this.compareAndDeleteScript = RedisScript.of(new ClassPathResource("redis/compare_and_delete.lua"), Long.class);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    public long get(Long userId) {
+        String key = key(userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[UnreadCounter] Redis 조회 실패 - DB로 조회: userId={}, error={}", userId, e.getMessage());
+            return alertRepository.countByUserIdAndIsReadFalse(userId);
+        }
+
+        long count = alertRepository.countByUserIdAndIsReadFalse(userId);
+        try {
+            // 그 사이 다른 요청이 적재했으면 덮어쓰지 않는다
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+        } catch (DataAccessException e) {
+            log.warn("[UnreadCounter] Redis 적재 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    public void addAfterCommit(Long userId, long delta) {
+        addAfterCommit(Map.of(userId, delta));
+    }
+
+    public void addAfterCommit(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        AfterCommit.run(() -> addNow(deltas));
+    }
+
+    /**
+     * 적재된 카운터를 DB와 비교해 어긋난 키를 삭제한다. (다음 조회 시 DB 기준으로 다시 적재)
+     * 비교 이후 값이 바뀐 키는 삭제하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${alert.unread-counter.reconcile-interval-ms:300000}",
+            initialDelayString = "${alert.unread-counter.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "*")
+                .count(reconcileBatchSize)
+                .build();
+
+        int corrected = 0;
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(reconcileBatchSize);
+            while (keys.hasNext()) {
+                batch.add(keys.next());
+                if (batch.size() >= reconcileBatchSize) {
+                    corrected += reconcileBatch(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                corrected += reconcileBatch(batch);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[UnreadCounter] 카운터 보정 실패: error={}", e.getMessage());
+            return;
+        }
+
+        if (corrected > 0) {
+            log.info("[UnreadCounter] 어긋난 카운터 보정: {}건", corrected);
+        }
+    }
+
+    private int reconcileBatch(List<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return 0;
+        }
+
+        Map<Long, String> cachedByUserId = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Long userId = parseUserId(keys.get(i));
+            if (userId != null && values.get(i) != null) {
+                cachedByUserId.put(userId, values.get(i));
+            }
+        }
+        if (cachedByUserId.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> actualByUserId = new HashMap<>();
+        for (UnreadAlertCountProjection count : alertRepository.countUnreadByUserIdIn(cachedByUserId.keySet())) {
+            actualByUserId.put(count.getUserId(), count.getUnreadCount());
+        }
+
+        int corrected = 0;
+        for (Map.Entry<Long, String> entry : cachedByUserId.entrySet()) {
+            String actual = String.valueOf(actualByUserId.getOrDefault(entry.getKey(), 0L));
+            if (!actual.equals(entry.getValue())) {
+                Long deleted = redisTemplate.execute(compareAndDeleteScript, List.of(key(entry.getKey())), entry.getValue());
+                if (deleted != null && deleted > 0) {
+                    corrected++;
+                }
+            }
+        }
+        return corrected;
+    }
+
+    private void addNow(Map<Long, Long> deltas) {
+        deltas.forEach((userId, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+
+            String key = key(userId);
+            try {
+                redisTemplate.execute(addScript, List.of(key), String.valueOf(delta));
+            } catch (DataAccessException e) {
+                log.warn("[UnreadCounter] 카운터 반영 실패: userId={}, delta={}, error={}", userId, delta, e.getMessage());
+                evictQuietly(key);
+            }
+        });
+    }
+
+    private void evictQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            // 삭제도 실패하면 TTL 만료 또는 reconcile로 보정된다
+            log.debug("[UnreadCounter] 카운터 삭제 실패: key={}", key);
+        }
+    }
+
+    private Long parseUserId(String key) {
+        try {
+            return Long.valueOf(key.substring(KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
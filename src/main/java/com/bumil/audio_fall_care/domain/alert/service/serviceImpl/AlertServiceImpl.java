@@ -1,14 +1,24 @@
 package com.bumil.audio_fall_care.domain.alert.service.serviceImpl;
 
+import com.bumil.audio_fall_care.domain.alert.dto.request.AlertReadRequest;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertPageResponse;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertReadResponse;
 import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
-import com.bumil.audio_fall_care.domain.alert.entity.Alert;
 import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
 import com.bumil.audio_fall_care.domain.alert.service.AlertService;
+import com.bumil.audio_fall_care.domain.alert.service.UnreadAlertCounter;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.CursorPageResponse;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.bumil.audio_fall_care.global.common.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 @Service
@@ -18,24 +28,83 @@ import java.util.List;
 public class AlertServiceImpl implements AlertService {
 
     private final AlertRepository alertRepository;
+    private final UnreadAlertCounter unreadAlertCounter;
 
+    /**
+     * 알림을 최신순으로 커서 기반 페이지 조회하고, 읽지 않은 알림 개수를 함께 반환한다.
+     * 다음 페이지 여부 판단을 위해 size + 1건을 조회한다.
+     */
     @Override
-    public List<AlertResponse> findAllByUserId(Long userId) {
-        return alertRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(AlertResponse::from)
-                .toList();
+    public AlertPageResponse findAlerts(Long userId, String cursor, Integer size, boolean unreadOnly) {
+        int pageSize = CursorPageResponse.resolveSize(size);
+        List<AlertResponse> alerts = findPage(userId, cursor, Limit.of(pageSize + 1), unreadOnly);
+
+        CursorPageResponse<AlertResponse> page = CursorPageResponse.of(alerts, pageSize,
+                alert -> new KeysetCursor(alert.createdAt(), alert.id()));
+
+        return AlertPageResponse.of(page, unreadAlertCounter.get(userId));
     }
 
+    /**
+     * 읽지 않은 알림 개수는 Redis 카운터에서 조회한다. (카운터가 없을 때만 DB COUNT)
+     */
     @Override
     public long countUnreadAlerts(Long userId) {
-        return alertRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadAlertCounter.get(userId);
     }
 
+    /**
+     * 읽지 않은 알림을 읽음 처리한다. 이미 읽었거나 없는 알림은 무시한다.
+     * 실제로 상태가 바뀐 경우에만 커밋 이후 읽지 않은 알림 카운터를 감소시킨다.
+     */
     @Transactional
     @Override
     public void markAsRead(Long alertId, Long userId) {
-        alertRepository.findByIdAndUserId(alertId, userId)
-                .ifPresent(Alert::markAsRead);
+        int updated = alertRepository.markAsReadIfUnread(alertId, userId, LocalDateTime.now());
+        if (updated > 0) {
+            unreadAlertCounter.addAfterCommit(userId, -1);
+        }
+    }
+
+    /**
+     * 여러 알림을 UPDATE 한 번으로 읽음 처리한다. 읽지 않은 알림만 갱신하며, 실제로 바뀐 행 수를 반환한다.
+     * all=true이면 사용자의 읽지 않은 알림 전체(before 지정 시 해당 시각 이전 생성분)를 대상으로 한다.
+     */
+    @Transactional
+    @Override
+    public AlertReadResponse markAllAsRead(Long userId, AlertReadRequest request) {
+        // before는 전체 읽음에만 적용된다. ID 목록과 함께 오면 무시하지 않고 요청 오류로 돌려준다.
+        if (request.all() == request.hasAlertIds() || (!request.all() && request.before() != null)) {
+            throw new BusinessException(ErrorCode.INVALID_ALERT_READ_REQUEST);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated;
+        if (request.hasAlertIds()) {
+            updated = alertRepository.markAsReadByIdIn(userId, new LinkedHashSet<>(request.alertIds()), now);
+        } else if (request.before() != null) {
+            updated = alertRepository.markAllAsReadBefore(userId, request.before(), now);
+        } else {
+            updated = alertRepository.markAllAsRead(userId, now);
+        }
+
+        if (updated > 0) {
+            unreadAlertCounter.addAfterCommit(userId, -updated);
+        }
+        log.debug("알림 일괄 읽음 처리: userId={}, updated={}", userId, updated);
+        return AlertReadResponse.of(updated);
+    }
+
+    private List<AlertResponse> findPage(Long userId, String cursor, Limit limit, boolean unreadOnly) {
+        if (cursor == null || cursor.isBlank()) {
+            return unreadOnly
+                    ? alertRepository.findUnreadFirstPageByUserId(userId, limit)
+                    : alertRepository.findFirstPageByUserId(userId, limit);
+        }
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        return unreadOnly
+                ? alertRepository.findUnreadPageByUserIdBefore(userId, keysetCursor.timestamp(), keysetCursor.id(), limit)
+                : alertRepository.findPageByUserIdBefore(userId, keysetCursor.timestamp(), keysetCursor.id(), limit);
     }
 }
@@ -3,6 +3,7 @@ package com.bumil.audio_fall_care.domain.auth.controller;
 import com.bumil.audio_fall_care.domain.auth.dto.request.*;
 import com.bumil.audio_fall_care.domain.auth.dto.response.LoginResponse;
 import com.bumil.audio_fall_care.domain.auth.dto.response.LoginResult;
+import com.bumil.audio_fall_care.domain.auth.dto.response.SessionResponse;
 import com.bumil.audio_fall_care.domain.auth.dto.response.SignUpResponse;
 import com.bumil.audio_fall_care.domain.auth.dto.response.TokenPair;
 import com.bumil.audio_fall_care.domain.user.entity.User;
@@ -26,6 +27,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "인증", description = "회원가입, 이메일 인증 API")
 @RestController
 @RequiredArgsConstructor
@@ -95,7 +98,7 @@ public class AuthController {
     @Operation(
             summary = "로그아웃",
             description = "현재 로그인된 사용자를 로그아웃합니다. " +
-                    "기기(device)별 Refresh Token을 삭제하고, " +
+                    "기기(device)별 Refresh Token을 삭제하고, 사용 중인 Access Token을 폐기하며, " +
                     "Refresh Token 쿠키를 만료 처리합니다."
     )
     @ApiResponses({
@@ -107,11 +110,12 @@ public class AuthController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<String>> logout(
             @RequestBody @Valid LogoutRequest dto,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
             HttpServletResponse response,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long userId = userDetails.getUserId();
-        authService.logout(userId, dto.deviceInfo());
+        authService.logout(userId, dto.deviceInfo(), extractAccessToken(authorization));
 
         ResponseCookie cookie = ResponseCookie.from(REFRESH_TOKEN_COOKIE_NAME, "")
                 .httpOnly(true)
@@ -127,6 +131,55 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.ok("로그아웃에 성공했습니다."));
     }
 
+    @Operation(
+            summary = "전체 기기 로그아웃",
+            description = "모든 기기의 Refresh Token과 FCM 토큰을 삭제하고, 사용 중인 Access Token을 폐기하며, " +
+                    "Refresh Token 쿠키를 만료 처리합니다. " +
+                    "다른 기기에 이미 발급된 Access Token은 만료 시까지 유효합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "전체 로그아웃 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @PostMapping("/logout-all")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<String>> logoutAll(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            HttpServletResponse response,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = userDetails.getUserId();
+        authService.logoutAll(userId, extractAccessToken(authorization));
+
+        ResponseCookie cookie = ResponseCookie.from(REFRESH_TOKEN_COOKIE_NAME, "")
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("None")
+                .path("/")
+                .maxAge(0)
+                .build();
+
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+
+        return ResponseEntity.ok(ApiResponse.ok("모든 기기에서 로그아웃했습니다."));
+    }
+
+    @Operation(
+            summary = "로그인 세션 목록",
+            description = "Refresh Token이 유효한 기기 목록을 마지막 재발급 순으로 조회합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/sessions")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<SessionResponse>>> getSessions(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(authService.getSessions(userDetails.getUserId())));
+    }
+
     @Operation(
             summary = "토큰 재발급",
             description = "만료된 Access Token을 재발급합니다. " +
@@ -152,8 +205,6 @@ public class AuthController {
 
         addCookie(response, tokenPair.refreshToken());
 
-        log.info("토큰 재발급 성공 : userId = {}", jwtUtil.getUserId(tokenPair.refreshToken()));
-
         return ResponseEntity.ok(
                 ApiResponse.ok("토큰 재발급에 성공했습니다.")
         );
@@ -162,6 +213,10 @@ public class AuthController {
 
 
 
+    private String extractAccessToken(String authorization) {
+        return authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+    }
+
     private void addCookie(HttpServletResponse response, String token) {
 
         ResponseCookie cookie = ResponseCookie.from(REFRESH_TOKEN_COOKIE_NAME, token)
@@ -0,0 +1,10 @@
+package com.bumil.audio_fall_care.domain.auth.dto.response;
+
+import java.time.LocalDateTime;
+
+public record SessionResponse(
+        String deviceInfo,
+        LocalDateTime loggedInAt,
+        LocalDateTime lastRefreshedAt
+) {
+}
@@ -2,10 +2,15 @@ package com.bumil.audio_fall_care.domain.auth.service;
 
 import com.bumil.audio_fall_care.domain.auth.dto.request.LoginRequest;
 import com.bumil.audio_fall_care.domain.auth.dto.response.LoginResult;
+import com.bumil.audio_fall_care.domain.auth.dto.response.SessionResponse;
 import com.bumil.audio_fall_care.domain.auth.dto.response.TokenPair;
 
+import java.util.List;
+
 public interface AuthService {
     LoginResult login(LoginRequest dto);
-    void logout(Long userId, String deviceInfo);
+    void logout(Long userId, String deviceInfo, String accessToken);
+    void logoutAll(Long userId, String accessToken);
+    List<SessionResponse> getSessions(Long userId);
     TokenPair reissueTokens(String refreshToken, String deviceInfo);
 }
@@ -0,0 +1,132 @@
+package com.bumil.audio_fall_care.domain.auth.service;
+
+import com.bumil.audio_fall_care.domain.auth.dto.response.SessionResponse;
+import com.bumil.audio_fall_care.global.security.jwt.JwtUtil;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 Refresh Token 패밀리 Redis 저장소.
+ *
+ * - 사용자마다 해시 하나(RT:{userId})에 기기 → 패밀리 상태(JSON)를 둔다.
+ *   전체 로그아웃과 세션 목록 조회가 키 하나로 끝나며 KEYS/SCAN이 필요 없다.
+ * - 패밀리는 로그인마다 새로 발급되고 재발급을 거쳐도 유지된다.
+ *   같은 패밀리의 이전 토큰이 다시 제시되면 재사용(탈취)으로 보고 해당 기기의 패밀리를 폐기한다.
+ * - 발급과 교체는 Lua 스크립트로 Redis 왕복 1회에 원자적으로 처리한다.
+ * - Redis 예외(DataAccessException)는 호출 측에서 처리한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    static final String KEY_PREFIX = "RT:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisScript<Long> issueScript;
+    private final RedisScript<Long> rotateScript;
+    private final JwtUtil jwtUtil;
+
+    public RefreshTokenStore(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, JwtUtil jwtUtil) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.jwtUtil = jwtUtil;
+        this.issueScript = RedisScript.of(new ClassPathResource("redis/refresh_token_issue.lua"), Long.class);
+        this.rotateScript = RedisScript.of(new ClassPathResource("redis/refresh_token_rotate.lua"), Long.class);
+    }
+
+    /**
+     * 같은 기기의 기존 패밀리는 새 패밀리로 교체된다.
+     */
+    public void issue(Long userId, String deviceInfo, String familyId, String refreshToken) {
+        redisTemplate.execute(issueScript, List.of(key(userId)),
+                deviceInfo, familyId, refreshToken, String.valueOf(jwtUtil.getRefreshExpMills()));
+    }
+
+    /**
+     * 기기의 현재 토큰이 currentToken과 같을 때만 newToken으로 교체한다.
+     */
+    public RotationResult rotate(Long userId, String deviceInfo, String familyId, String currentToken, String newToken) {
+        Long result = redisTemplate.execute(rotateScript, List.of(key(userId)),
+                deviceInfo, familyId, currentToken, newToken, String.valueOf(jwtUtil.getRefreshExpMills()));
+
+        if (result == null || result == 0L) {
+            return RotationResult.EXPIRED;
+        }
+        if (result == 1L) {
+            return RotationResult.ROTATED;
+        }
+        return result == -2L ? RotationResult.REUSED : RotationResult.MISMATCH;
+    }
+
+    public boolean revoke(Long userId, String deviceInfo) {
+        Long deleted = redisTemplate.opsForHash().delete(key(userId), deviceInfo);
+        return deleted != null && deleted > 0;
+    }
+
+    public boolean revokeAll(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.delete(key(userId)));
+    }
+
+    /**
+     * 만료되지 않은 기기 세션 목록 (마지막 재발급 순)
+     */
+    public List<SessionResponse> findSessions(Long userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(userId));
+        long now = System.currentTimeMillis();
+
+        List<SessionResponse> sessions = new ArrayList<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            FamilyState state = readState(userId, (String) entry.getValue());
+            if (state == null || state.expiresAt() <= now) {
+                continue;
+            }
+            sessions.add(new SessionResponse((String) entry.getKey(),
+                    toLocalDateTime(state.createdAt()), toLocalDateTime(state.refreshedAt())));
+        }
+        sessions.sort(Comparator.comparing(SessionResponse::lastRefreshedAt).reversed());
+        return sessions;
+    }
+
+    private FamilyState readState(Long userId, String json) {
+        try {
+            return objectMapper.readValue(json, FamilyState.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[RefreshTokenStore] 세션 정보 파싱 실패: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    public enum RotationResult {
+        ROTATED,
+        EXPIRED,
+        MISMATCH,
+        REUSED
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record FamilyState(long createdAt, long refreshedAt, long expiresAt) {
+    }
+}
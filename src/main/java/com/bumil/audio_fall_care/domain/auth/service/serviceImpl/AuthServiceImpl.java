@@ -2,19 +2,23 @@ package com.bumil.audio_fall_care.domain.auth.service.serviceImpl;
 
 import com.bumil.audio_fall_care.domain.auth.dto.request.LoginRequest;
 import com.bumil.audio_fall_care.domain.auth.dto.response.LoginResult;
+import com.bumil.audio_fall_care.domain.auth.dto.response.SessionResponse;
 import com.bumil.audio_fall_care.domain.auth.dto.response.TokenPair;
 import com.bumil.audio_fall_care.domain.auth.service.AuthService;
+import com.bumil.audio_fall_care.domain.auth.service.RefreshTokenStore;
 import com.bumil.audio_fall_care.domain.fcm.service.FcmTokenService;
 import com.bumil.audio_fall_care.domain.user.entity.User;
 import com.bumil.audio_fall_care.domain.user.service.UserService;
 import com.bumil.audio_fall_care.global.security.CustomUserDetails;
 import com.bumil.audio_fall_care.global.common.BusinessException;
 import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.bumil.audio_fall_care.global.security.jwt.AccessTokenRevocationList;
 import com.bumil.audio_fall_care.global.security.jwt.JwtUtil;
-import io.lettuce.core.RedisConnectionException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
@@ -26,7 +30,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -34,13 +39,11 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class AuthServiceImpl implements AuthService {
 
-    // Token
-    private static final String REFRESH_TOKEN_PREFIX = "RT:";
-
     private final JwtUtil jwtUtil;
     private final UserService userService;
     private final FcmTokenService fcmTokenService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenRevocationList accessTokenRevocationList;
     private final AuthenticationManager authenticationManager;
 
     @Override
@@ -57,18 +60,11 @@ public class AuthServiceImpl implements AuthService {
                     userId,
                     userDetails.getUsername()
             );
-            String refreshToken = jwtUtil.createRefreshToken(userId);
-
-            // 기존 Refresh Token 삭제 (중복 로그인 가능)
-            String redisKey = REFRESH_TOKEN_PREFIX + userId + ":" + dto.deviceInfo();
-            redisTemplate.delete(redisKey);
+            // 로그인마다 새 패밀리를 발급하고, 같은 기기의 기존 패밀리는 교체한다 (다른 기기와는 중복 로그인 가능)
+            String familyId = UUID.randomUUID().toString();
+            String refreshToken = jwtUtil.createRefreshToken(userId, familyId);
 
-            redisTemplate.opsForValue().set(
-                    redisKey,
-                    refreshToken,
-                    jwtUtil.getRefreshExpMills(),
-                    TimeUnit.MILLISECONDS
-            );
+            refreshTokenStore.issue(userId, dto.deviceInfo(), familyId, refreshToken);
 
             log.info("Refresh Token Redis 저장 성공: {}", userId);
 
@@ -92,26 +88,57 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    /**
+     * FCM 토큰 삭제가 읽기 전용 트랜잭션에 참여해 반영되지 않는 일이 없도록 쓰기 트랜잭션으로 실행한다.
+     * 요청에 사용된 Access Token은 만료 전이라도 폐기한다.
+     */
+    @Transactional
     @Override
-    public void logout(Long userId, String deviceInfo) {
-        String key = REFRESH_TOKEN_PREFIX + userId + ":" + deviceInfo;
-
+    public void logout(Long userId, String deviceInfo, String accessToken) {
         fcmTokenService.deleteToken(userId, deviceInfo);
+        revokeAccessToken(accessToken);
 
         try {
-            Boolean deleted = redisTemplate.delete(key);
-
-            if (deleted) {
+            if (refreshTokenStore.revoke(userId, deviceInfo)) {
                 log.info("Refresh Token 삭제 성공 - userId={}, device={}", userId, deviceInfo);
             } else {
                 log.warn("Refresh Token 삭제 대상 없음 - userId={}, device={}", userId, deviceInfo);
             }
 
-        } catch (RedisConnectionException e) {
+        } catch (DataAccessException e) {
             log.warn("Refresh Token 삭제 실패 - userId = {}", userId, e);
         }
     }
 
+    /**
+     * 모든 기기의 Refresh Token 패밀리와 FCM 토큰을 삭제하고, 요청에 사용된 Access Token을 폐기한다.
+     * 다른 기기에 이미 발급된 Access Token은 만료 시까지 유효하다.
+     */
+    @Transactional
+    @Override
+    public void logoutAll(Long userId, String accessToken) {
+        fcmTokenService.deleteAllTokens(userId);
+        revokeAccessToken(accessToken);
+
+        try {
+            refreshTokenStore.revokeAll(userId);
+            log.info("전체 기기 로그아웃 - userId={}", userId);
+        } catch (DataAccessException e) {
+            log.error("Redis 연결 실패", e);
+            throw new BusinessException(ErrorCode.REDIS_CONNECTION_ERROR);
+        }
+    }
+
+    @Override
+    public List<SessionResponse> getSessions(Long userId) {
+        try {
+            return refreshTokenStore.findSessions(userId);
+        } catch (DataAccessException e) {
+            log.error("Redis 연결 실패", e);
+            throw new BusinessException(ErrorCode.REDIS_CONNECTION_ERROR);
+        }
+    }
+
     @Override
     public TokenPair reissueTokens(String refreshToken, String deviceInfo) {
 
@@ -120,49 +147,76 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
 
-        if (!jwtUtil.isRefreshToken(refreshToken)) {
+        // 서명 검증은 한 번만 하고, 타입/사용자/패밀리는 검증된 Claims에서 읽는다
+        Claims claims;
+        try {
+            claims = jwtUtil.parseToken(refreshToken);
+        } catch (JwtException e) {
+            log.warn("유효하지 않은 Refresh Token입니다.");
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        if (!jwtUtil.isRefreshToken(claims)) {
             log.warn("유효하지 않은 Refresh Token입니다.");
             throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
         }
 
-        Long userId = jwtUtil.getUserId(refreshToken);
-        String redisKey = REFRESH_TOKEN_PREFIX + userId + ":" + deviceInfo;
+        Long userId = jwtUtil.getUserId(claims);
+        String familyId = jwtUtil.getFamilyId(claims);
+        if (familyId == null) {
+            // 패밀리 도입 이전에 발급된 토큰
+            log.warn("패밀리 정보가 없는 Refresh Token입니다.");
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        String newRefreshToken = jwtUtil.createRefreshToken(userId, familyId);
 
+        RefreshTokenStore.RotationResult result;
         try {
-            String storedRefreshToken = redisTemplate.opsForValue().get(redisKey);
+            // 저장된 토큰과 비교 후 교체를 한 번에 처리하여, 같은 토큰으로 동시에 재발급해도 한 요청만 성공한다
+            result = refreshTokenStore.rotate(userId, deviceInfo, familyId, refreshToken, newRefreshToken);
+        } catch (DataAccessException e) {
+            log.error("Redis 연결 실패", e);
+            throw new BusinessException(ErrorCode.REDIS_CONNECTION_ERROR);
+        }
 
-            if (!StringUtils.hasText(storedRefreshToken)) {
-                log.warn("리프레시 토큰이 만료되었습니다.");
-                throw new BusinessException(ErrorCode.REFRESH_TOKEN_EXPIRED);
-            }
+        if (result == RefreshTokenStore.RotationResult.EXPIRED) {
+            log.warn("리프레시 토큰이 만료되었습니다.");
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_EXPIRED);
+        }
 
-            if (!refreshToken.equals(storedRefreshToken)) {
-                log.warn("리프레시 토큰이 일치하지 않습니다.");
-                throw new BusinessException(ErrorCode.REFRESH_TOKEN_MISMATCH);
-            }
+        if (result == RefreshTokenStore.RotationResult.REUSED) {
+            log.warn("이미 사용된 Refresh Token 재사용 감지 - 패밀리 폐기: userId={}, device={}", userId, deviceInfo);
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
 
-            User user = userService.findById(userId);
+        if (result == RefreshTokenStore.RotationResult.MISMATCH) {
+            log.warn("리프레시 토큰이 일치하지 않습니다.");
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_MISMATCH);
+        }
 
-            String newAccessToken = jwtUtil.createAccessToken(
-                    userId,
-                    user.getUsername()
-            );
-            String newRefreshToken = jwtUtil.createRefreshToken(userId);
+        // 사용자 조회와 Access Token 발급은 교체에 성공한 요청만 한다 (재사용/불일치 요청은 DB에 닿지 않는다)
+        User user = userService.findById(userId);
+        String newAccessToken = jwtUtil.createAccessToken(
+                userId,
+                user.getUsername()
+        );
 
-            redisTemplate.opsForValue().set(
-                    redisKey,
-                    newRefreshToken,
-                    jwtUtil.getRefreshExpMills(),
-                    TimeUnit.MILLISECONDS
-            );
+        log.info("토큰 재발급 성공 - userId={}, device={}", userId, deviceInfo);
 
-            return new TokenPair(refreshToken, newAccessToken);
-        } catch (RedisConnectionException e) {
-            log.error("Redis 연결 실패", e);
-            throw new BusinessException(ErrorCode.REDIS_CONNECTION_ERROR);
-        } catch (Exception e) {
-            log.error("토큰 재발급 처리 중 오류 발생", e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        return new TokenPair(newAccessToken, newRefreshToken);
+    }
+
+    private void revokeAccessToken(String accessToken) {
+        if (!StringUtils.hasText(accessToken)) {
+            return;
+        }
+
+        try {
+            Claims claims = jwtUtil.parseAccessToken(accessToken);
+            accessTokenRevocationList.revoke(claims.getId(), claims.getExpiration());
+        } catch (JwtException | DataAccessException e) {
+            log.warn("Access Token 폐기 실패 - 만료 시까지 유효: {}", e.getMessage());
         }
     }
 }
@@ -0,0 +1,10 @@
+package com.bumil.audio_fall_care.domain.fcm.dto;
+
+/**
+ * 푸시 전송에 필요한 토큰 정보. 무효 토큰 삭제를 위해 ID를 함께 보관한다.
+ */
+public record FcmTokenSnapshot(
+        Long id,
+        String token
+) {
+}
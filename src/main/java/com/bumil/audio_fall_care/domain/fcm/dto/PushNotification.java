@@ -0,0 +1,9 @@
+package com.bumil.audio_fall_care.domain.fcm.dto;
+
+public record PushNotification(
+        Long userId,
+        Long alertId,
+        String title,
+        String body
+) {
+}
@@ -0,0 +1,103 @@
+package com.bumil.audio_fall_care.domain.fcm.entity;
+
+import com.bumil.audio_fall_care.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 푸시 알림 outbox.
+ * 낙상 이력/알림과 같은 트랜잭션에서 저장되어, 커밋 이후 relay가 최소 1회 전송을 보장한다.
+ */
+@Entity
+@Table(
+        name = "push_outbox",
+        indexes = {
+                @Index(name = "idx_push_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PushOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private Long alertId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 1000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private PushOutboxStatus status = PushOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    /**
+     * 마지막으로 선점한 relay의 토큰. lease가 끝나 다른 relay가 다시 선점하면 바뀐다.
+     */
+    @Column(length = 36)
+    private String claimToken;
+
+    /**
+     * 전송 시도를 선점한다. lease 동안 다른 relay가 같은 행을 가져가지 않는다.
+     */
+    public void claim(LocalDateTime leaseUntil, String claimToken) {
+        this.attempts = this.attempts + 1;
+        this.nextAttemptAt = leaseUntil;
+        this.claimToken = claimToken;
+    }
+
+    /**
+     * 아직 이 토큰으로 선점된 전송 대기 행인지 확인한다.
+     * 선점 이후 lease가 끝나 다른 relay가 가져갔다면 결과를 기록하지 않는다.
+     */
+    public boolean isClaimedBy(String claimToken) {
+        return this.status == PushOutboxStatus.PENDING && claimToken != null && claimToken.equals(this.claimToken);
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = PushOutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+    }
+
+    public void scheduleRetry(String error, LocalDateTime nextAttemptAt) {
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed(String error) {
+        this.status = PushOutboxStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= 500) {
+            return error;
+        }
+        return error.substring(0, 500);
+    }
+}
@@ -0,0 +1,7 @@
+package com.bumil.audio_fall_care.domain.fcm.entity;
+
+public enum PushOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.bumil.audio_fall_care.domain.fcm.event;
+
+/**
+ * 트랜잭션 커밋 이후 즉시 전송을 시도할 outbox 행.
+ */
+public record PushNotificationEvent(
+        Long outboxId
+) {
+}
@@ -1,15 +1,48 @@
 package com.bumil.audio_fall_care.domain.fcm.repository;
 
+import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenSnapshot;
 import com.bumil.audio_fall_care.domain.fcm.entity.FcmToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
 
-    List<FcmToken> findAllByUserId(Long userId);
+    @Query("SELECT new com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenSnapshot(t.id, t.token) " +
+            "FROM FcmToken t WHERE t.user.id = :userId")
+    List<FcmTokenSnapshot> findSnapshotsByUserId(@Param("userId") Long userId);
+
     Optional<FcmToken> findByUserIdAndDeviceInfo(Long userId, String deviceInfo);
+
+    /**
+     * (user_id, device_info) 기준 등록 또는 토큰 갱신을 한 문장으로 처리한다.
+     * 같은 기기의 동시 로그인도 uk_user_device 충돌 없이 마지막 토큰으로 수렴한다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO fcm_tokens (user_id, device_info, token, created_at, updated_at)
+            VALUES (:userId, :deviceInfo, :token, :now, :now)
+            ON CONFLICT (user_id, device_info)
+            DO UPDATE SET token = EXCLUDED.token, updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("deviceInfo") String deviceInfo,
+               @Param("token") String token,
+               @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM FcmToken t WHERE t.user.id = :userId AND t.id IN :ids")
+    int deleteAllByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM FcmToken t WHERE t.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 }
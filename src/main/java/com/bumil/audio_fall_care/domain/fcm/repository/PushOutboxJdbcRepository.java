@@ -0,0 +1,73 @@
+package com.bumil.audio_fall_care.domain.fcm.repository;
+
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PushOutbox 대량 저장용 JDBC 리포지토리.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PushOutboxJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO push_outbox (user_id, alert_id, title, body, status, attempts, next_attempt_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 입력 순서대로 생성된 ID 목록
+     */
+    public List<Long> batchInsert(List<PushOutbox> outboxes, LocalDateTime now) {
+        if (outboxes.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PushOutbox outbox = outboxes.get(i);
+                        ps.setLong(1, outbox.getUserId());
+                        if (outbox.getAlertId() != null) {
+                            ps.setLong(2, outbox.getAlertId());
+                        } else {
+                            ps.setNull(2, Types.BIGINT);
+                        }
+                        ps.setString(3, outbox.getTitle());
+                        ps.setString(4, outbox.getBody());
+                        ps.setString(5, outbox.getStatus().name());
+                        ps.setInt(6, outbox.getAttempts());
+                        ps.setObject(7, outbox.getNextAttemptAt());
+                        ps.setObject(8, now);
+                        ps.setObject(9, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return outboxes.size();
+                    }
+                },
+                keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+}
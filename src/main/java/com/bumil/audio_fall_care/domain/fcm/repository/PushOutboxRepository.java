@@ -0,0 +1,64 @@
+package com.bumil.audio_fall_care.domain.fcm.repository;
+
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutbox;
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutboxStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    /**
+     * 전송 시각이 도래한 PENDING 행을 잠금과 함께 가져온다.
+     * SKIP LOCKED로 여러 WAS 노드가 서로 다른 행을 나눠 처리한다.
+     */
+    @Query(value = """
+            SELECT * FROM push_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<PushOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 즉시 전송 경로용 단건 선점. 한 번도 선점되지 않았거나 lease/백오프가 끝난 PENDING 행만 가져온다.
+     * (enqueue 시 next_attempt_at을 lease만큼 미뤄 두므로 attempts = 0 조건으로 첫 전송을 허용한다)
+     */
+    @Query(value = """
+            SELECT * FROM push_outbox
+            WHERE id = :id AND status = 'PENDING'
+              AND (attempts = 0 OR next_attempt_at <= :now)
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<PushOutbox> findClaimableByIdForUpdate(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM PushOutbox o WHERE o.id = :id")
+    Optional<PushOutbox> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 선점한 relay가 아직 lease를 가지고 있을 때만 lease를 연장한다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE PushOutbox o SET o.nextAttemptAt = :leaseUntil
+            WHERE o.id = :id AND o.claimToken = :claimToken AND o.status = :status
+            """)
+    int renewLease(@Param("id") Long id,
+                   @Param("claimToken") String claimToken,
+                   @Param("status") PushOutboxStatus status,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("DELETE FROM PushOutbox o WHERE o.status = :status AND o.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") PushOutboxStatus status,
+                                      @Param("before") LocalDateTime before);
+}
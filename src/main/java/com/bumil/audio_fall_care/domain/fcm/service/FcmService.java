@@ -1,12 +1,15 @@
 package com.bumil.audio_fall_care.domain.fcm.service;
 
-import com.bumil.audio_fall_care.domain.fcm.entity.FcmToken;
+import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenSnapshot;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
 import com.google.firebase.messaging.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -15,42 +18,89 @@ import java.util.List;
 @ConditionalOnProperty(name = "firebase.enabled", havingValue = "true")
 public class FcmService implements FcmServiceInterface {
 
+    // FCM multicast 요청 1회당 최대 토큰 수
+    private static final int MAX_MULTICAST_TOKENS = 500;
+
     private final FcmTokenServiceInterface fcmTokenService;
     private final FirebaseMessaging firebaseMessaging;
 
     @Override
     public void sendToUser(Long userId, String title, String body) {
-        List<FcmToken> tokens = fcmTokenService.findAllByUserId(userId);
-
-        for (FcmToken token : tokens) {
-            Message message = Message.builder()
-                    .setToken(token.getToken())
-                    .setWebpushConfig(WebpushConfig.builder()
-                            .setNotification(WebpushNotification.builder()
-                                    .setTitle(title)
-                                    .setBody(body)
-                                    .setIcon("/icons/alert-icon.png")
-                                    .setVibrate(new int[]{200, 100, 200})
-                                    .build())
-                            .build())
-                    .build();
-
-            try {
-                firebaseMessaging.send(message);
-                log.info("[FCM] 알림 전송 성공: userId: {}", userId);
-            } catch (FirebaseMessagingException e) {
+        List<FcmTokenSnapshot> tokens = fcmTokenService.findAllByUserId(userId);
+        List<Long> invalidTokenIds = new ArrayList<>();
+        int successCount = 0;
+        boolean retryableFailure = false;
+
+        for (int from = 0; from < tokens.size(); from += MAX_MULTICAST_TOKENS) {
+            List<FcmTokenSnapshot> chunk = tokens.subList(from, Math.min(from + MAX_MULTICAST_TOKENS, tokens.size()));
+            MulticastResult result = sendMulticast(userId, chunk, title, body);
+            successCount += result.successCount();
+            invalidTokenIds.addAll(result.invalidTokenIds());
+            retryableFailure |= result.retryableFailure();
+        }
+
+        // 만료/무효 토큰 일괄 삭제
+        if (!invalidTokenIds.isEmpty()) {
+            fcmTokenService.deleteTokens(userId, invalidTokenIds);
+            log.warn("[FCM] 만료/무효 토큰 삭제: userId={}, count={}", userId, invalidTokenIds.size());
+        }
+
+        // 한 기기에도 전달되지 못했다면 재시도할 수 있도록 실패로 알린다.
+        if (successCount == 0 && retryableFailure) {
+            throw new BusinessException(ErrorCode.FCM_SEND_FAILED);
+        }
+    }
+
+    /**
+     * 여러 기기에 한 번의 요청으로 전송한다.
+     */
+    private MulticastResult sendMulticast(Long userId, List<FcmTokenSnapshot> tokens, String title, String body) {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens.stream().map(FcmTokenSnapshot::token).toList())
+                .setWebpushConfig(WebpushConfig.builder()
+                        .setNotification(WebpushNotification.builder()
+                                .setTitle(title)
+                                .setBody(body)
+                                .setIcon("/icons/alert-icon.png")
+                                .setVibrate(new int[]{200, 100, 200})
+                                .build())
+                        .build())
+                .build();
+
+        List<Long> invalidTokenIds = new ArrayList<>();
+        boolean retryableFailure = false;
+        try {
+            BatchResponse batchResponse = firebaseMessaging.sendEachForMulticast(message);
+            List<SendResponse> responses = batchResponse.getResponses();
+
+            for (int i = 0; i < responses.size(); i++) {
+                SendResponse response = responses.get(i);
+                if (response.isSuccessful()) {
+                    continue;
+                }
+
+                FirebaseMessagingException e = response.getException();
                 log.error("[FCM] 알림 전송 실패: userId: {}, errorCode: {}, message: {}",
                         userId, e.getMessagingErrorCode(), e.getMessage());
 
                 if (isTokenInvalid(e)) {
-                    fcmTokenService.deleteToken(token);
-                    log.warn("[FCM] 만료/무효 토큰 삭제: userId={}, errorCode={}",
-                            userId, e.getMessagingErrorCode());
+                    invalidTokenIds.add(tokens.get(i).id());
+                } else {
+                    retryableFailure = true;
                 }
-            } catch (Exception e) {
-                log.error("[FCM] 예상치 못한 오류 발생: userId: {}", userId, e);
             }
+
+            log.info("[FCM] 알림 전송 완료: userId: {}, success: {}, failure: {}",
+                    userId, batchResponse.getSuccessCount(), batchResponse.getFailureCount());
+            return new MulticastResult(batchResponse.getSuccessCount(), invalidTokenIds, retryableFailure);
+        } catch (FirebaseMessagingException e) {
+            log.error("[FCM] 알림 전송 실패: userId: {}, errorCode: {}, message: {}",
+                    userId, e.getMessagingErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("[FCM] 예상치 못한 오류 발생: userId: {}", userId, e);
         }
+
+        return new MulticastResult(0, invalidTokenIds, true);
     }
 
     // 토큰 유효성 검사
@@ -58,4 +108,7 @@ public class FcmService implements FcmServiceInterface {
         return e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED
                 || e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT;
     }
+
+    private record MulticastResult(int successCount, List<Long> invalidTokenIds, boolean retryableFailure) {
+    }
 }
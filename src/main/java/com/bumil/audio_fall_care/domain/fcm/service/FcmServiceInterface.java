@@ -8,6 +8,8 @@ public interface FcmServiceInterface {
      * @param userId 대상 사용자 ID
      * @param title  알림 제목
      * @param body   알림 본문
+     * @throws com.bumil.audio_fall_care.global.common.BusinessException
+     *         일시적인 오류로 어떤 기기에도 전송하지 못한 경우 (재시도 대상)
      */
     void sendToUser(Long userId, String title, String body);
 }
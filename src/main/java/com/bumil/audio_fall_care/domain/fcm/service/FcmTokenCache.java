@@ -0,0 +1,199 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenSnapshot;
+import com.bumil.audio_fall_care.domain.fcm.repository.FcmTokenRepository;
+import com.bumil.audio_fall_care.global.common.AfterCommit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자별 FCM 토큰 목록 캐시. (인스턴스 로컬 Caffeine → Redis → DB 순으로 조회)
+ *
+ * - 토큰이 없는 사용자도 빈 목록으로 캐시하여 푸시 전송 시 DB를 조회하지 않는다.
+ * - 토큰 등록/삭제 시 커밋 이후 Redis 키를 지우고, Redis 채널로 다른 인스턴스의 로컬 캐시도 비운다.
+ * - 무효화마다 사용자별 세대를 올리고, 조회는 DB를 읽기 전 세대가 그대로일 때만 Redis에 적재한다.
+ *   (커밋 전에 DB를 읽은 조회가 무효화 이후 이전 목록을 다시 적재하는 경쟁을 막는다)
+ * - 조회 결과는 fcm.token.cache.requests{result=local_hit|redis_hit|miss}로 집계한다.
+ */
+@Slf4j
+@Component
+public class FcmTokenCache implements MessageListener {
+
+    static final String KEY_PREFIX = "FCM:TOKENS:";
+    static final String GENERATION_KEY_PREFIX = "FCM:TOKENS:GEN:";
+    private static final String NO_GENERATION = "0";
+    private static final TypeReference<List<FcmTokenSnapshot>> TOKEN_LIST = new TypeReference<>() {
+    };
+
+    private final Cache<Long, List<FcmTokenSnapshot>> localCache;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final Duration redisTtl;
+    private final RedisScript<Long> fillScript;
+    private final RedisScript<Long> evictScript;
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public FcmTokenCache(
+            FcmTokenRepository fcmTokenRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.token-cache.local-max-size:10000}") long localMaxSize,
+            @Value("${fcm.token-cache.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${fcm.token-cache.redis-ttl-seconds:3600}") long redisTtlSeconds,
+            @Value("${fcm.token-cache.invalidation-channel:fcm:tokens:invalidate}") String channel
+    ) {
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.fillScript = RedisScript.of(new ClassPathResource("redis/fcm_token_cache_fill.lua"), Long.class);
+        this.evictScript = RedisScript.of(new ClassPathResource("redis/fcm_token_cache_evict.lua"), Long.class);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.localHits = requestCounter(meterRegistry, "local_hit");
+        this.redisHits = requestCounter(meterRegistry, "redis_hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+    }
+
+    @PostConstruct
+    void register() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    public List<FcmTokenSnapshot> get(Long userId) {
+        List<FcmTokenSnapshot> cached = localCache.getIfPresent(userId);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+
+        List<FcmTokenSnapshot> tokens = readRedis(userId);
+        if (tokens != null) {
+            redisHits.increment();
+        } else {
+            misses.increment();
+            String generation = readGeneration(userId);
+            tokens = List.copyOf(fcmTokenRepository.findSnapshotsByUserId(userId));
+            if (!writeRedis(userId, generation, tokens)) {
+                // 조회 도중 무효화되었다. 이번 결과는 그대로 쓰되 어느 캐시에도 남기지 않는다.
+                return tokens;
+            }
+        }
+
+        localCache.put(userId, tokens);
+        return tokens;
+    }
+
+    /**
+     * 로컬 캐시는 바로 비우고, Redis 키 삭제와 다른 인스턴스 무효화 발행은 커밋 이후에 한다.
+     */
+    public void evict(Long userId) {
+        localCache.invalidate(userId);
+
+        AfterCommit.run(() -> evictEverywhere(userId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("[FcmTokenCache] 잘못된 무효화 메시지: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private List<FcmTokenSnapshot> readRedis(Long userId) {
+        try {
+            String json = redisTemplate.opsForValue().get(key(userId));
+            return json != null ? objectMapper.readValue(json, TOKEN_LIST) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[FcmTokenCache] Redis 조회 실패 - DB로 조회: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private String readGeneration(Long userId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(userId));
+            return generation != null ? generation : NO_GENERATION;
+        } catch (DataAccessException e) {
+            log.warn("[FcmTokenCache] 세대 조회 실패 - Redis 적재 생략: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return 조회 도중 무효화되어 적재를 포기했으면 false
+     */
+    private boolean writeRedis(Long userId, String generation, List<FcmTokenSnapshot> tokens) {
+        if (generation == null) {
+            return true;
+        }
+        try {
+            Long written = redisTemplate.execute(fillScript, List.of(key(userId), generationKey(userId)),
+                    generation, objectMapper.writeValueAsString(tokens), String.valueOf(redisTtl.toMillis()));
+            return written == null || written > 0;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[FcmTokenCache] Redis 적재 실패: userId={}, error={}", userId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void evictEverywhere(Long userId) {
+        localCache.invalidate(userId);
+        try {
+            redisTemplate.execute(evictScript, List.of(key(userId), generationKey(userId)),
+                    String.valueOf(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(channel, String.valueOf(userId));
+        } catch (DataAccessException e) {
+            log.warn("[FcmTokenCache] 무효화 실패 (TTL로 만료): userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String generationKey(Long userId) {
+        return GENERATION_KEY_PREFIX + userId;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("fcm.token.cache.requests")
+                .description("사용자별 FCM 토큰 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,14 +1,19 @@
 package com.bumil.audio_fall_care.domain.fcm.service;
 
 import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenRequest;
+import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenSnapshot;
 import com.bumil.audio_fall_care.domain.fcm.entity.FcmToken;
 import com.bumil.audio_fall_care.domain.fcm.repository.FcmTokenRepository;
-import com.bumil.audio_fall_care.domain.user.service.UserService;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -17,35 +22,54 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class FcmTokenService implements FcmTokenServiceInterface {
 
+    // PostgreSQL foreign_key_violation
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
     private final FcmTokenRepository fcmTokenRepository;
-    private final UserService userService;
+    private final FcmTokenCache fcmTokenCache;
 
-    // FCM 토큰 등록, 갱신
+    // FCM 토큰 등록, 갱신 (사용자를 조회하지 않고 user_id로 바로 upsert)
     @Transactional
     @Override
     public void saveOrUpdateToken(Long userId, FcmTokenRequest request) {
-        FcmToken token =
-                fcmTokenRepository.findByUserIdAndDeviceInfo(userId, request.deviceInfo())
-                        .orElseGet(() -> FcmToken.builder()
-                                .user(userService.findById(userId))
-                                .deviceInfo(request.deviceInfo())
-                                .build());
-
-        token.updateToken(request.token());
-        fcmTokenRepository.save(token);
+        try {
+            fcmTokenRepository.upsert(userId, request.deviceInfo(), request.token(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // 사용자를 미리 조회하지 않으므로 user_id FK 위반으로 존재하지 않는 사용자를 판별한다
+            if (e.getMostSpecificCause() instanceof SQLException sqlException
+                    && FOREIGN_KEY_VIOLATION.equals(sqlException.getSQLState())) {
+                throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+            }
+            throw e;
+        }
+        fcmTokenCache.evict(userId);
 
         log.info("FCM Token 등록: userId = {}", userId);
     }
 
+    /**
+     * 토큰은 로그인/로그아웃/무효 토큰 정리 때만 바뀌므로 캐시에서 조회한다. 변경 시 evict로 무효화한다.
+     */
     @Override
-    public List<FcmToken> findAllByUserId(Long userId) {
-        return fcmTokenRepository.findAllByUserId(userId);
+    public List<FcmTokenSnapshot> findAllByUserId(Long userId) {
+        return fcmTokenCache.get(userId);
     }
 
     @Transactional
     @Override
     public void deleteToken(FcmToken token) {
         fcmTokenRepository.delete(token);
+        fcmTokenCache.evict(token.getUser().getId());
+    }
+
+    @Transactional
+    @Override
+    public void deleteTokens(Long userId, List<Long> tokenIds) {
+        if (tokenIds.isEmpty()) {
+            return;
+        }
+        fcmTokenRepository.deleteAllByUserIdAndIdIn(userId, tokenIds);
+        fcmTokenCache.evict(userId);
     }
 
     @Transactional
@@ -53,8 +77,18 @@ public class FcmTokenService implements FcmTokenServiceInterface {
     public void deleteToken(Long userId, String deviceInfo) {
         fcmTokenRepository.findByUserIdAndDeviceInfo(userId, deviceInfo)
                 .ifPresentOrElse(
-                        fcmTokenRepository::delete,
+                        token -> {
+                            fcmTokenRepository.delete(token);
+                            fcmTokenCache.evict(userId);
+                        },
                         () -> log.warn("[FCM] 삭제할 토큰이 존재하지 않음: userId = {}, deviceInfo = {}", userId, deviceInfo)
                 );
     }
+
+    @Transactional
+    @Override
+    public void deleteAllTokens(Long userId) {
+        fcmTokenRepository.deleteAllByUserId(userId);
+        fcmTokenCache.evict(userId);
+    }
 }
@@ -1,6 +1,7 @@
 package com.bumil.audio_fall_care.domain.fcm.service;
 
 import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenRequest;
+import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenSnapshot;
 import com.bumil.audio_fall_care.domain.fcm.entity.FcmToken;
 
 import java.util.List;
@@ -8,9 +9,18 @@ import java.util.List;
 public interface FcmTokenServiceInterface {
 
     void saveOrUpdateToken(Long userId, FcmTokenRequest fcmTokenRequest);
-    List<FcmToken> findAllByUserId(Long userId);
+
+    /** 푸시 전송에 사용 (캐시 조회) */
+    List<FcmTokenSnapshot> findAllByUserId(Long userId);
+
     void deleteToken(FcmToken token);
-    
+
+    /** 무효 토큰 일괄 삭제에 사용 */
+    void deleteTokens(Long userId, List<Long> tokenIds);
+
     /** 로그아웃에 사용 */
     void deleteToken(Long userId, String deviceInfo);
+
+    /** 전체 기기 로그아웃에 사용 */
+    void deleteAllTokens(Long userId);
 }
@@ -0,0 +1,90 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.event.PushNotificationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 트랜잭션의 푸시 알림을 전용 Executor에서 즉시 전송한다.
+ * DB 커넥션과 AI 서버 요청이 Firebase 응답을 기다리지 않도록 분리한다.
+ * 여기서 전송하지 못한 알림은 {@link PushOutboxRelay}가 outbox에서 다시 가져간다.
+ *
+ * - 큐가 가득 차면 전송 작업을 버리고 집계만 한다. outbox 행은 이미 커밋되어 있으므로 lease가 지나면
+ *   relay가 전송한다. (호출 스레드에서 전송하면 낙상 수신 응답이 다시 Firebase 지연에 묶인다)
+ * - 종료 시에는 대기 중인 알림을 모두 전송한 뒤 내려간다.
+ */
+@Slf4j
+@Component
+public class PushNotificationDispatcher {
+
+    private final PushOutboxRelay pushOutboxRelay;
+    private final ThreadPoolTaskExecutor executor;
+
+    public PushNotificationDispatcher(
+            PushOutboxRelay pushOutboxRelay,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.dispatch.core-pool-size:4}") int corePoolSize,
+            @Value("${fcm.dispatch.max-pool-size:8}") int maxPoolSize,
+            @Value("${fcm.dispatch.queue-capacity:1000}") int queueCapacity,
+            @Value("${fcm.dispatch.await-termination-seconds:30}") int awaitTerminationSeconds
+    ) {
+        this.pushOutboxRelay = pushOutboxRelay;
+        this.executor = createExecutor(meterRegistry, corePoolSize, maxPoolSize, queueCapacity, awaitTerminationSeconds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void dispatch(PushNotificationEvent event) {
+        executor.execute(() -> send(event));
+    }
+
+    @PreDestroy
+    public void drain() {
+        log.info("[FCM] 전송 큐 드레인 시작: queueSize={}", executor.getQueueSize());
+        executor.shutdown();
+    }
+
+    private void send(PushNotificationEvent event) {
+        try {
+            pushOutboxRelay.deliver(event.outboxId());
+        } catch (Exception e) {
+            log.error("FCM 즉시 전송 실패 - relay 재시도 대기: outboxId={}, error={}", event.outboxId(), e.getMessage());
+        }
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(MeterRegistry meterRegistry, int corePoolSize, int maxPoolSize,
+                                                  int queueCapacity, int awaitTerminationSeconds) {
+        Counter rejectedCounter = Counter.builder("fcm.dispatch.rejected")
+                .description("큐 포화로 즉시 전송을 건너뛰고 relay에 맡긴 푸시 알림 수")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("push-dispatch-");
+        taskExecutor.setCorePoolSize(corePoolSize);
+        taskExecutor.setMaxPoolSize(maxPoolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setRejectedExecutionHandler((task, pool) -> {
+            rejectedCounter.increment();
+            log.warn("[FCM] 전송 큐 포화 - 즉시 전송 생략, relay 재전송 대기: queueSize={}", pool.getQueue().size());
+        });
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        taskExecutor.initialize();
+
+        Gauge.builder("fcm.dispatch.queue.size", taskExecutor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("전송 대기 중인 푸시 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("fcm.dispatch.active", taskExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("전송 중인 푸시 알림 수")
+                .register(meterRegistry);
+
+        return taskExecutor;
+    }
+}
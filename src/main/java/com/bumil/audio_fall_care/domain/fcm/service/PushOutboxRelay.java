@@ -0,0 +1,75 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * outbox에 쌓인 푸시 알림을 FCM으로 전달한다.
+ * 전송은 트랜잭션 밖에서 수행하고, 선점(lease)과 결과 기록만 짧은 트랜잭션으로 처리한다.
+ * 결과는 선점 토큰이 일치할 때만 기록되므로, lease가 끝나 다른 relay가 가져간 행을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushOutboxRelay {
+
+    private final PushOutboxService pushOutboxService;
+    private final FcmServiceInterface fcmService;
+
+    @Value("${push.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${push.outbox.retention-days:7}")
+    private int retentionDays;
+
+    /**
+     * 커밋 직후 즉시 전송 경로.
+     */
+    public void deliver(Long outboxId) {
+        pushOutboxService.claim(outboxId).ifPresent(this::send);
+    }
+
+    /**
+     * 즉시 전송에 실패했거나 유실된 행을 주기적으로 재전송한다.
+     * 배치를 순서대로 보내는 동안 뒤쪽 행의 lease가 끝날 수 있으므로, 각 행은 전송 직전에 lease를 연장하고
+     * 그 사이 다른 relay가 다시 선점한 행은 보내지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${push.outbox.poll-interval-ms:5000}")
+    public void relayDue() {
+        List<PushOutbox> claimed;
+        do {
+            claimed = pushOutboxService.claimDue(batchSize);
+            for (PushOutbox outbox : claimed) {
+                if (!pushOutboxService.renewLease(outbox.getId(), outbox.getClaimToken())) {
+                    log.info("[FCM] lease 만료로 다른 relay가 가져간 outbox - 전송 생략: outboxId={}", outbox.getId());
+                    continue;
+                }
+                send(outbox);
+            }
+        } while (claimed.size() == batchSize);
+    }
+
+    @Scheduled(cron = "${push.outbox.purge-cron:0 0 4 * * *}")
+    public void purgeSent() {
+        int deleted = pushOutboxService.purgeSent(LocalDateTime.now().minusDays(retentionDays));
+        log.info("[FCM] 전송 완료된 outbox 정리: deleted={}", deleted);
+    }
+
+    private void send(PushOutbox outbox) {
+        try {
+            fcmService.sendToUser(outbox.getUserId(), outbox.getTitle(), outbox.getBody());
+            pushOutboxService.markSent(outbox.getId(), outbox.getClaimToken());
+        } catch (Exception e) {
+            log.warn("[FCM] outbox 전송 실패 - 재시도 예약: outboxId={}, attempts={}, error={}",
+                    outbox.getId(), outbox.getAttempts(), e.getMessage());
+            pushOutboxService.recordFailure(outbox.getId(), outbox.getClaimToken(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.dto.PushNotification;
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutbox;
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutboxStatus;
+import com.bumil.audio_fall_care.domain.fcm.event.PushNotificationEvent;
+import com.bumil.audio_fall_care.domain.fcm.repository.PushOutboxJdbcRepository;
+import com.bumil.audio_fall_care.domain.fcm.repository.PushOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 푸시 알림 outbox 관리.
+ *
+ * - enqueue 계열은 호출한 트랜잭션(낙상 이력/알림 저장)에 참여한다.
+ * - relay 계열은 커밋 이후 콜백에서 호출될 수 있으므로 항상 새 트랜잭션에서 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PushOutboxService {
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final PushOutboxJdbcRepository pushOutboxJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${push.outbox.lease-seconds:30}")
+    private long leaseSeconds;
+
+    @Value("${push.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${push.outbox.backoff-base-seconds:5}")
+    private long backoffBaseSeconds;
+
+    @Value("${push.outbox.backoff-max-seconds:600}")
+    private long backoffMaxSeconds;
+
+    /**
+     * outbox에 기록하고 커밋 이후 즉시 전송을 예약한다.
+     * 즉시 전송이 실패하거나 노드가 내려가도 lease가 지나면 relay가 다시 가져간다.
+     */
+    @Transactional
+    public Long enqueue(PushNotification notification) {
+        PushOutbox outbox = pushOutboxRepository.save(toOutbox(notification, LocalDateTime.now()));
+        eventPublisher.publishEvent(new PushNotificationEvent(outbox.getId()));
+        return outbox.getId();
+    }
+
+    @Transactional
+    public List<Long> enqueueAll(List<PushNotification> notifications) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> outboxIds = pushOutboxJdbcRepository.batchInsert(
+                notifications.stream().map(notification -> toOutbox(notification, now)).toList(),
+                now
+        );
+        outboxIds.forEach(outboxId -> eventPublisher.publishEvent(new PushNotificationEvent(outboxId)));
+        return outboxIds;
+    }
+
+    /**
+     * 즉시 전송 경로의 단건 선점. 이미 다른 relay가 lease를 가지고 있거나 백오프 중인 행은 가져오지 않는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<PushOutbox> claim(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        String claimToken = UUID.randomUUID().toString();
+        return pushOutboxRepository.findClaimableByIdForUpdate(outboxId, now)
+                .map(outbox -> {
+                    outbox.claim(now.plusSeconds(leaseSeconds), claimToken);
+                    return outbox;
+                });
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<PushOutbox> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        String claimToken = UUID.randomUUID().toString();
+        List<PushOutbox> outboxes = pushOutboxRepository.findDueForUpdate(now, limit);
+        outboxes.forEach(outbox -> outbox.claim(now.plusSeconds(leaseSeconds), claimToken));
+        return outboxes;
+    }
+
+    /**
+     * 배치의 뒤쪽 행은 앞선 전송 시간만큼 lease가 줄어 있으므로 전송 직전에 연장한다.
+     *
+     * @return 아직 이 토큰으로 선점되어 있어 연장했으면 true (다른 relay가 다시 가져갔다면 false)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean renewLease(Long outboxId, String claimToken) {
+        return pushOutboxRepository.renewLease(outboxId, claimToken, PushOutboxStatus.PENDING,
+                LocalDateTime.now().plusSeconds(leaseSeconds)) > 0;
+    }
+
+    /**
+     * 선점 토큰이 일치할 때만 기록한다. lease가 끝나 다른 relay가 가져간 행은 그쪽 결과를 따른다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markSent(Long outboxId, String claimToken) {
+        pushOutboxRepository.findByIdForUpdate(outboxId)
+                .filter(outbox -> outbox.isClaimedBy(claimToken))
+                .ifPresent(outbox -> outbox.markSent(LocalDateTime.now()));
+    }
+
+    /**
+     * 전송 실패를 기록한다. 최대 시도 횟수 이전에는 지수 백오프로 재시도를 예약한다.
+     * 선점 토큰이 일치하지 않으면 기록하지 않는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(Long outboxId, String claimToken, String error) {
+        pushOutboxRepository.findByIdForUpdate(outboxId)
+                .filter(outbox -> outbox.isClaimedBy(claimToken))
+                .ifPresent(outbox -> {
+                    if (outbox.getAttempts() >= maxAttempts) {
+                        outbox.markFailed(error);
+                        log.error("[FCM] outbox 전송 최종 실패: outboxId={}, userId={}, attempts={}",
+                                outboxId, outbox.getUserId(), outbox.getAttempts());
+                        return;
+                    }
+                    outbox.scheduleRetry(error, LocalDateTime.now().plus(backoff(outbox.getAttempts())));
+                });
+    }
+
+    @Transactional
+    public int purgeSent(LocalDateTime before) {
+        return pushOutboxRepository.deleteByStatusAndSentAtBefore(PushOutboxStatus.SENT, before);
+    }
+
+    private Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(Math.max(attempts - 1, 0), 20);
+        return Duration.ofSeconds(Math.min(backoffBaseSeconds * multiplier, backoffMaxSeconds));
+    }
+
+    private PushOutbox toOutbox(PushNotification notification, LocalDateTime now) {
+        return PushOutbox.builder()
+                .userId(notification.userId())
+                .alertId(notification.alertId())
+                .title(notification.title())
+                .body(notification.body())
+                // 즉시 전송 경로가 먼저 처리하도록 lease만큼 relay 수거를 늦춘다.
+                .nextAttemptAt(now.plusSeconds(leaseSeconds))
+                .build();
+    }
+}
@@ -1,19 +1,23 @@
 package com.bumil.audio_fall_care.domain.history.controller;
 
+import com.bumil.audio_fall_care.domain.history.dto.FallHistoryRangeStatsResponse;
 import com.bumil.audio_fall_care.domain.history.dto.FallHistoryResponse;
 import com.bumil.audio_fall_care.domain.history.dto.FallHistoryStatsResponse;
+import com.bumil.audio_fall_care.domain.history.dto.FallTrendResponse;
 import com.bumil.audio_fall_care.domain.history.service.FallHistoryService;
 import com.bumil.audio_fall_care.global.common.ApiResponse;
+import com.bumil.audio_fall_care.global.common.CursorPageResponse;
 import com.bumil.audio_fall_care.global.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDate;
 
 @Tag(name = "낙상 이력", description = "낙상 감지 이력 관리 API")
 @RestController
@@ -23,15 +27,21 @@ public class FallHistoryController {
 
     private final FallHistoryService fallHistoryService;
 
-    @Operation(summary = "낙상 이력 목록 조회", description = "로그인한 사용자의 낙상 감지 이력을 최신순으로 조회합니다.")
+    @Operation(summary = "낙상 이력 목록 조회",
+            description = "로그인한 사용자의 낙상 감지 이력을 최신순으로 조회합니다. "
+                    + "응답의 nextCursor를 cursor 파라미터로 넘기면 다음 페이지를 조회합니다. (size 기본 20, 최대 100)")
     @ApiResponses({
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<FallHistoryResponse>>> getHistories(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<ApiResponse<CursorPageResponse<FallHistoryResponse>>> getHistories(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
-        List<FallHistoryResponse> histories = fallHistoryService.getHistories(userDetails.getUserId());
+        CursorPageResponse<FallHistoryResponse> histories =
+                fallHistoryService.getHistories(userDetails.getUserId(), cursor, size);
         return ResponseEntity.ok(ApiResponse.ok(histories));
     }
 
@@ -47,6 +57,40 @@ public class FallHistoryController {
         return ResponseEntity.ok(ApiResponse.ok(stats));
     }
 
+    @Operation(summary = "기간별 낙상 통계 조회",
+            description = "from ~ to(포함) 기간의 일자별 낙상 건수와 소리 유형별 건수를 조회합니다. (최대 366일)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 조회 기간")
+    })
+    @GetMapping("/stats/range")
+    public ResponseEntity<ApiResponse<FallHistoryRangeStatsResponse>> getRangeStats(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        FallHistoryRangeStatsResponse stats = fallHistoryService.getRangeStats(userDetails.getUserId(), from, to);
+        return ResponseEntity.ok(ApiResponse.ok(stats));
+    }
+
+    @Operation(summary = "낙상 추이 조회",
+            description = "from ~ to(포함) 기간의 낙상 건수를 bucket(hour, day, week) 단위로 리코더/소리 유형별 집계하여 조회합니다. "
+                    + "(hour 최대 31일, day 최대 366일, week 최대 1096일)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 조회 기간 또는 집계 단위")
+    })
+    @GetMapping("/trend")
+    public ResponseEntity<ApiResponse<FallTrendResponse>> getTrend(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String bucket) {
+
+        FallTrendResponse trend = fallHistoryService.getTrend(userDetails.getUserId(), from, to, bucket);
+        return ResponseEntity.ok(ApiResponse.ok(trend));
+    }
+
     @Operation(summary = "낙상 이력 상세 조회", description = "특정 낙상 감지 이력의 상세 정보를 조회합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
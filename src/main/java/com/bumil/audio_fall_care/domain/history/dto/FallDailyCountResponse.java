@@ -0,0 +1,9 @@
+package com.bumil.audio_fall_care.domain.history.dto;
+
+import java.time.LocalDate;
+
+public record FallDailyCountResponse(
+        LocalDate day,
+        long count
+) {
+}
@@ -0,0 +1,15 @@
+package com.bumil.audio_fall_care.domain.history.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record FallHistoryRangeStatsResponse(
+        LocalDate from,
+        LocalDate to,
+        long totalCount,
+        double averageConfidence,
+        Map<String, Long> soundTypeCounts,
+        List<FallDailyCountResponse> daily
+) {
+}
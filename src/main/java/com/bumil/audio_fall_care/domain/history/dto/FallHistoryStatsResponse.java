@@ -1,9 +1,19 @@
 package com.bumil.audio_fall_care.domain.history.dto;
 
+import com.bumil.audio_fall_care.domain.history.repository.FallHistoryStatsProjection;
+
 public record FallHistoryStatsResponse(
         long totalCount,
         long recentWeekCount,
         long recentMonthCount,
         double averageConfidence
 ) {
+    public static FallHistoryStatsResponse from(FallHistoryStatsProjection stats) {
+        return new FallHistoryStatsResponse(
+                stats.getTotalCount(),
+                stats.getRecentWeekCount(),
+                stats.getRecentMonthCount(),
+                stats.getTotalCount() == 0 ? 0 : stats.getConfidenceSum() / stats.getTotalCount()
+        );
+    }
 }
@@ -0,0 +1,11 @@
+package com.bumil.audio_fall_care.domain.history.dto;
+
+import java.time.LocalDateTime;
+
+public record FallTrendPoint(
+        LocalDateTime bucketStart,
+        Long recorderId,
+        String soundType,
+        long count
+) {
+}
@@ -0,0 +1,12 @@
+package com.bumil.audio_fall_care.domain.history.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record FallTrendResponse(
+        String bucket,
+        LocalDate from,
+        LocalDate to,
+        List<FallTrendPoint> points
+) {
+}
@@ -0,0 +1,29 @@
+package com.bumil.audio_fall_care.domain.history.dto;
+
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 추이 조회 집계 단위. unit은 PostgreSQL date_trunc 필드명이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendBucket {
+    HOUR("hour", 31),
+    DAY("day", 366),
+    WEEK("week", 1096);
+
+    private final String unit;
+    private final int maxRangeDays;
+
+    public static TrendBucket from(String value) {
+        return Arrays.stream(values())
+                .filter(bucket -> bucket.unit.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TREND_BUCKET));
+    }
+}
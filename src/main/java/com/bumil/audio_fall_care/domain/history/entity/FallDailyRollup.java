@@ -0,0 +1,52 @@
+package com.bumil.audio_fall_care.domain.history.entity;
+
+import com.bumil.audio_fall_care.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자/리코더/일자/소리 유형별 낙상 집계.
+ * 낙상 이력 저장·삭제 시 증분 갱신되며, 통계 API는 원본 이력 대신 이 테이블을 조회한다.
+ */
+@Entity
+@Table(
+        name = "fall_daily_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_fall_daily_rollups_key",
+                        columnNames = {"user_id", "recorder_id", "day", "sound_type"})
+        },
+        indexes = {
+                @Index(name = "idx_fall_daily_rollups_user_day", columnList = "user_id, day"),
+                @Index(name = "idx_fall_daily_rollups_recorder", columnList = "recorder_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FallDailyRollup extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long recorderId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private String soundType;
+
+    @Column(nullable = false)
+    private Long fallCount;
+
+    @Column(nullable = false)
+    private Double confidenceSum;
+}
@@ -9,7 +9,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "fall_histories")
+@Table(
+        name = "fall_histories",
+        indexes = {
+                @Index(name = "idx_fall_histories_user_detected_at_id", columnList = "user_id, detected_at DESC, id DESC")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
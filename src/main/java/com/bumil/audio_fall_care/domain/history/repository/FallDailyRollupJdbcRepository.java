@@ -0,0 +1,85 @@
+package com.bumil.audio_fall_care.domain.history.repository;
+
+import com.bumil.audio_fall_care.domain.history.entity.FallDailyRollup;
+import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * fall_daily_rollups 증분 갱신용 JDBC 리포지토리.
+ * 동시에 같은 키를 갱신해도 카운트가 유실되지 않도록 PostgreSQL upsert로 원자적으로 더한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FallDailyRollupJdbcRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO fall_daily_rollups (user_id, recorder_id, day, sound_type, fall_count, confidence_sum, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, recorder_id, day, sound_type) DO UPDATE
+            SET fall_count = fall_daily_rollups.fall_count + EXCLUDED.fall_count,
+                confidence_sum = fall_daily_rollups.confidence_sum + EXCLUDED.confidence_sum,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String DECREMENT_SQL = """
+            UPDATE fall_daily_rollups
+            SET fall_count = fall_count - 1, confidence_sum = confidence_sum - ?, updated_at = ?
+            WHERE user_id = ? AND recorder_id = ? AND day = ? AND sound_type = ?
+            """;
+
+    private static final String DELETE_EMPTY_SQL = """
+            DELETE FROM fall_daily_rollups
+            WHERE user_id = ? AND recorder_id = ? AND day = ? AND sound_type = ? AND fall_count <= 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 집계 증분을 일괄 반영한다. 호출자는 동시 배치 간 교착을 피하도록 키 순서로 정렬해서 넘겨야 한다.
+     */
+    public void upsertAll(List<FallDailyRollup> deltas, LocalDateTime now) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                FallDailyRollup delta = deltas.get(i);
+                ps.setLong(1, delta.getUserId());
+                ps.setLong(2, delta.getRecorderId());
+                ps.setObject(3, delta.getDay());
+                ps.setString(4, delta.getSoundType());
+                ps.setLong(5, delta.getFallCount());
+                ps.setDouble(6, delta.getConfidenceSum());
+                ps.setObject(7, now);
+                ps.setObject(8, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+
+    /**
+     * 삭제된 낙상 이력 1건을 집계에서 차감하고, 비게 된 행은 제거한다.
+     */
+    public void decrement(FallHistory history, LocalDateTime now) {
+        Long userId = history.getUser().getId();
+        Long recorderId = history.getRecorder().getId();
+
+        jdbcTemplate.update(DECREMENT_SQL, history.getConfidence(), now,
+                userId, recorderId, history.getDetectedAt().toLocalDate(), history.getSoundType());
+        jdbcTemplate.update(DELETE_EMPTY_SQL,
+                userId, recorderId, history.getDetectedAt().toLocalDate(), history.getSoundType());
+    }}
@@ -0,0 +1,36 @@
+package com.bumil.audio_fall_care.domain.history.repository;
+
+import com.bumil.audio_fall_care.domain.history.entity.FallDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FallDailyRollupRepository extends JpaRepository<FallDailyRollup, Long> {
+
+    @Query("SELECT COALESCE(SUM(r.fallCount), 0) AS totalCount, " +
+            "COALESCE(SUM(CASE WHEN r.day >= :weekStart THEN r.fallCount ELSE 0 END), 0) AS recentWeekCount, " +
+            "COALESCE(SUM(CASE WHEN r.day >= :monthStart THEN r.fallCount ELSE 0 END), 0) AS recentMonthCount, " +
+            "COALESCE(SUM(r.confidenceSum), 0) AS confidenceSum " +
+            "FROM FallDailyRollup r WHERE r.userId = :userId")
+    FallHistoryStatsProjection aggregateStatsByUserId(@Param("userId") Long userId,
+                                                      @Param("weekStart") LocalDate weekStart,
+                                                      @Param("monthStart") LocalDate monthStart);
+
+    @Query("SELECT r.day AS day, r.soundType AS soundType, " +
+            "SUM(r.fallCount) AS fallCount, SUM(r.confidenceSum) AS confidenceSum " +
+            "FROM FallDailyRollup r " +
+            "WHERE r.userId = :userId AND r.day BETWEEN :from AND :to " +
+            "GROUP BY r.day, r.soundType " +
+            "ORDER BY r.day")
+    List<FallDailyRollupSummary> summarizeByUserIdAndDayBetween(@Param("userId") Long userId,
+                                                                @Param("from") LocalDate from,
+                                                                @Param("to") LocalDate to);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM FallDailyRollup r WHERE r.recorderId = :recorderId")
+    int deleteAllByRecorderId(@Param("recorderId") Long recorderId);
+}
@@ -0,0 +1,13 @@
+package com.bumil.audio_fall_care.domain.history.repository;
+
+import java.time.LocalDate;
+
+public interface FallDailyRollupSummary {
+    LocalDate getDay();
+
+    String getSoundType();
+
+    long getFallCount();
+
+    double getConfidenceSum();
+}
@@ -0,0 +1,67 @@
+package com.bumil.audio_fall_care.domain.history.repository;
+
+import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * FallHistory 대량 저장용 JDBC 리포지토리.
+ * IDENTITY 전략에서는 Hibernate 배치 insert가 비활성화되므로 JdbcTemplate 배치로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FallHistoryJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO fall_histories (recorder_id, user_id, confidence, sound_type, detected_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 입력 순서대로 생성된 ID 목록
+     */
+    public List<Long> batchInsert(List<FallHistory> histories, LocalDateTime now) {
+        if (histories.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        FallHistory history = histories.get(i);
+                        ps.setLong(1, history.getRecorder().getId());
+                        ps.setLong(2, history.getUser().getId());
+                        ps.setDouble(3, history.getConfidence());
+                        ps.setString(4, history.getSoundType());
+                        ps.setObject(5, history.getDetectedAt());
+                        ps.setObject(6, now);
+                        ps.setObject(7, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return histories.size();
+                    }
+                },
+                keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+}
@@ -1,22 +1,46 @@
 package com.bumil.audio_fall_care.domain.history.repository;
 
+import com.bumil.audio_fall_care.domain.history.dto.FallHistoryResponse;
 import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface FallHistoryRepository extends JpaRepository<FallHistory, Long> {
-    List<FallHistory> findByUserIdOrderByDetectedAtDesc(Long userId);
+    /**
+     * 목록/상세 조회는 응답에 필요한 컬럼만 한 번의 쿼리로 읽는다. (엔티티 로딩, 리코더 지연 로딩 없음)
+     */
+    @Query("SELECT new com.bumil.audio_fall_care.domain.history.dto.FallHistoryResponse(" +
+            "h.id, r.id, r.deviceName, h.confidence, h.soundType, h.detectedAt) " +
+            "FROM FallHistory h JOIN h.recorder r " +
+            "WHERE h.user.id = :userId " +
+            "ORDER BY h.detectedAt DESC, h.id DESC")
+    List<FallHistoryResponse> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
 
-    long countByUserId(Long userId);
+    /**
+     * (detectedAt, id) 커서 이후 페이지 조회. idx_fall_histories_user_detected_at_id 인덱스 범위 스캔으로 처리된다.
+     */
+    @Query("SELECT new com.bumil.audio_fall_care.domain.history.dto.FallHistoryResponse(" +
+            "h.id, r.id, r.deviceName, h.confidence, h.soundType, h.detectedAt) " +
+            "FROM FallHistory h JOIN h.recorder r " +
+            "WHERE h.user.id = :userId " +
+            "AND (h.detectedAt < :detectedAt OR (h.detectedAt = :detectedAt AND h.id < :id)) " +
+            "ORDER BY h.detectedAt DESC, h.id DESC")
+    List<FallHistoryResponse> findPageByUserIdBefore(@Param("userId") Long userId,
+                                                     @Param("detectedAt") LocalDateTime detectedAt,
+                                                     @Param("id") Long id,
+                                                     Limit limit);
 
-    long countByUserIdAndDetectedAtAfter(Long userId, LocalDateTime after);
-
-    @Query("SELECT COALESCE(AVG(h.confidence), 0) FROM FallHistory h WHERE h.user.id = :userId")
-    double findAverageConfidenceByUserId(@Param("userId") Long userId);
+    @Query("SELECT new com.bumil.audio_fall_care.domain.history.dto.FallHistoryResponse(" +
+            "h.id, r.id, r.deviceName, h.confidence, h.soundType, h.detectedAt) " +
+            "FROM FallHistory h JOIN h.recorder r " +
+            "WHERE h.id = :id AND h.user.id = :userId")
+    Optional<FallHistoryResponse> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
     void deleteAllByRecorderId(Long recorderId);
 }
@@ -0,0 +1,11 @@
+package com.bumil.audio_fall_care.domain.history.repository;
+
+public interface FallHistoryStatsProjection {
+    long getTotalCount();
+
+    long getRecentWeekCount();
+
+    long getRecentMonthCount();
+
+    double getConfidenceSum();
+}
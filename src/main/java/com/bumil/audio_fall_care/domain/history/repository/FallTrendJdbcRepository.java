@@ -0,0 +1,57 @@
+package com.bumil.audio_fall_care.domain.history.repository;
+
+import com.bumil.audio_fall_care.domain.history.dto.FallTrendPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 낙상 추이 집계 조회용 JDBC 리포지토리.
+ * 버킷/리코더/소리 유형 단위 집계를 DB에서 끝내고 집계 결과만 가져온다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FallTrendJdbcRepository {
+
+    // 시간 단위는 일자별 집계보다 세밀하므로 원본 이력을 (user_id, detected_at) 인덱스 범위로 스캔한다.
+    private static final String HOURLY_SQL = """
+            SELECT date_trunc('hour', detected_at) AS bucket_start, recorder_id, sound_type, COUNT(*) AS fall_count
+            FROM fall_histories
+            WHERE user_id = ? AND detected_at >= ? AND detected_at < ?
+            GROUP BY 1, 2, 3
+            ORDER BY 1, 2, 3
+            """;
+
+    private static final String ROLLUP_SQL = """
+            SELECT date_trunc(?, CAST(day AS timestamp)) AS bucket_start, recorder_id, sound_type, SUM(fall_count) AS fall_count
+            FROM fall_daily_rollups
+            WHERE user_id = ? AND day BETWEEN ? AND ?
+            GROUP BY 1, 2, 3
+            ORDER BY 1, 2, 3
+            """;
+
+    private static final RowMapper<FallTrendPoint> POINT_MAPPER = (rs, rowNum) -> new FallTrendPoint(
+            rs.getObject("bucket_start", LocalDateTime.class),
+            rs.getLong("recorder_id"),
+            rs.getString("sound_type"),
+            rs.getLong("fall_count")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<FallTrendPoint> findHourlyTrend(Long userId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(HOURLY_SQL, POINT_MAPPER, userId, from, to);
+    }
+
+    /**
+     * @param unit date_trunc 필드명 (day, week)
+     */
+    public List<FallTrendPoint> findRollupTrend(Long userId, String unit, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(ROLLUP_SQL, POINT_MAPPER, unit, userId, from, to);
+    }
+}
@@ -0,0 +1,134 @@
+package com.bumil.audio_fall_care.domain.history.service;
+
+import com.bumil.audio_fall_care.domain.history.dto.FallDailyCountResponse;
+import com.bumil.audio_fall_care.domain.history.dto.FallHistoryRangeStatsResponse;
+import com.bumil.audio_fall_care.domain.history.dto.FallHistoryStatsResponse;
+import com.bumil.audio_fall_care.domain.history.entity.FallDailyRollup;
+import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import com.bumil.audio_fall_care.domain.history.repository.FallDailyRollupJdbcRepository;
+import com.bumil.audio_fall_care.domain.history.repository.FallDailyRollupRepository;
+import com.bumil.audio_fall_care.domain.history.repository.FallDailyRollupSummary;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 일자별 낙상 집계(fall_daily_rollups) 관리.
+ * 낙상 이력과 같은 트랜잭션에서 증분 갱신하여 통계 조회가 원본 이력을 스캔하지 않도록 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FallDailyRollupService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    // 동시 배치끼리 같은 순서로 행 잠금을 잡도록 키 순서를 고정한다.
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator.comparing(RollupKey::userId)
+            .thenComparing(RollupKey::recorderId)
+            .thenComparing(RollupKey::day)
+            .thenComparing(RollupKey::soundType);
+
+    private final FallDailyRollupRepository fallDailyRollupRepository;
+    private final FallDailyRollupJdbcRepository fallDailyRollupJdbcRepository;
+
+    @Transactional
+    public void increment(List<FallHistory> histories) {
+        Map<RollupKey, List<FallHistory>> grouped = histories.stream()
+                .collect(Collectors.groupingBy(RollupKey::from, () -> new TreeMap<>(KEY_ORDER), Collectors.toList()));
+
+        List<FallDailyRollup> deltas = grouped.entrySet().stream()
+                .map(entry -> FallDailyRollup.builder()
+                        .userId(entry.getKey().userId())
+                        .recorderId(entry.getKey().recorderId())
+                        .day(entry.getKey().day())
+                        .soundType(entry.getKey().soundType())
+                        .fallCount((long) entry.getValue().size())
+                        .confidenceSum(entry.getValue().stream().mapToDouble(FallHistory::getConfidence).sum())
+                        .build())
+                .toList();
+
+        fallDailyRollupJdbcRepository.upsertAll(deltas, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void decrement(FallHistory history) {
+        fallDailyRollupJdbcRepository.decrement(history, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void deleteByRecorderId(Long recorderId) {
+        fallDailyRollupRepository.deleteAllByRecorderId(recorderId);
+    }
+
+    /**
+     * 전체/최근 7일/최근 30일(오늘 포함) 건수와 평균 신뢰도를 집계 테이블에서 계산한다.
+     */
+    public FallHistoryStatsResponse getStats(Long userId) {
+        LocalDate today = LocalDate.now();
+        return FallHistoryStatsResponse.from(fallDailyRollupRepository.aggregateStatsByUserId(
+                userId, today.minusDays(6), today.minusDays(29)));
+    }
+
+    /**
+     * 기간 내 일자별 건수(건수가 없는 날은 0)와 소리 유형별 건수를 계산한다.
+     */
+    public FallHistoryRangeStatsResponse getRangeStats(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        List<FallDailyRollupSummary> summaries =
+                fallDailyRollupRepository.summarizeByUserIdAndDayBetween(userId, from, to);
+
+        Map<LocalDate, Long> dailyCounts = new TreeMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            dailyCounts.put(day, 0L);
+        }
+
+        Map<String, Long> soundTypeCounts = new TreeMap<>();
+        long totalCount = 0;
+        double confidenceSum = 0;
+        for (FallDailyRollupSummary summary : summaries) {
+            dailyCounts.merge(summary.getDay(), summary.getFallCount(), Long::sum);
+            soundTypeCounts.merge(summary.getSoundType(), summary.getFallCount(), Long::sum);
+            totalCount += summary.getFallCount();
+            confidenceSum += summary.getConfidenceSum();
+        }
+
+        List<FallDailyCountResponse> daily = dailyCounts.entrySet().stream()
+                .map(entry -> new FallDailyCountResponse(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return new FallHistoryRangeStatsResponse(
+                from,
+                to,
+                totalCount,
+                totalCount == 0 ? 0 : confidenceSum / totalCount,
+                soundTypeCounts,
+                daily
+        );
+    }
+
+    private record RollupKey(Long userId, Long recorderId, LocalDate day, String soundType) {
+        static RollupKey from(FallHistory history) {
+            return new RollupKey(
+                    history.getUser().getId(),
+                    history.getRecorder().getId(),
+                    history.getDetectedAt().toLocalDate(),
+                    history.getSoundType()
+            );
+        }
+    }
+}
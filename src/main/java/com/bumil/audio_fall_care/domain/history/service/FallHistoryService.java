@@ -1,16 +1,23 @@
 package com.bumil.audio_fall_care.domain.history.service;
 
+import com.bumil.audio_fall_care.domain.history.dto.FallHistoryRangeStatsResponse;
 import com.bumil.audio_fall_care.domain.history.dto.FallHistoryResponse;
 import com.bumil.audio_fall_care.domain.history.dto.FallHistoryStatsResponse;
+import com.bumil.audio_fall_care.domain.history.dto.FallTrendResponse;
 import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
 import com.bumil.audio_fall_care.domain.history.repository.FallHistoryRepository;
 import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.CursorPageResponse;
 import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.bumil.audio_fall_care.global.common.KeysetCursor;
+import com.bumil.audio_fall_care.global.config.CacheConfig;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -19,22 +26,39 @@ import java.util.List;
 public class FallHistoryService {
 
     private final FallHistoryRepository fallHistoryRepository;
+    private final FallHistoryStatsCache fallHistoryStatsCache;
+    private final FallDailyRollupService fallDailyRollupService;
+    private final FallTrendService fallTrendService;
 
-    public List<FallHistoryResponse> getHistories(Long userId) {
-        return fallHistoryRepository.findByUserIdOrderByDetectedAtDesc(userId).stream()
-                .map(FallHistoryResponse::from)
-                .toList();
-    }
+    /**
+     * 낙상 이력을 최신순으로 커서 기반 페이지 조회한다.
+     * 다음 페이지 여부 판단을 위해 size + 1건을 조회한다.
+     */
+    public CursorPageResponse<FallHistoryResponse> getHistories(Long userId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.resolveSize(size);
+        Limit limit = Limit.of(pageSize + 1);
 
-    public FallHistoryResponse getHistory(Long userId, Long historyId) {
-        FallHistory history = fallHistoryRepository.findById(historyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.FALL_HISTORY_NOT_FOUND));
-
-        if (!history.getUser().getId().equals(userId)) {
-            throw new BusinessException(ErrorCode.FALL_HISTORY_NOT_OWNED);
+        List<FallHistoryResponse> histories;
+        if (cursor == null || cursor.isBlank()) {
+            histories = fallHistoryRepository.findFirstPageByUserId(userId, limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            histories = fallHistoryRepository.findPageByUserIdBefore(
+                    userId, keysetCursor.timestamp(), keysetCursor.id(), limit);
         }
 
-        return FallHistoryResponse.from(history);
+        return CursorPageResponse.of(histories, pageSize,
+                history -> new KeysetCursor(history.detectedAt(), history.id()));
+    }
+
+    /**
+     * 소유자 조건까지 한 번의 쿼리로 조회하고, 결과가 없을 때만 존재 여부를 다시 확인해 오류를 구분한다.
+     */
+    public FallHistoryResponse getHistory(Long userId, Long historyId) {
+        return fallHistoryRepository.findResponseByIdAndUserId(historyId, userId)
+                .orElseThrow(() -> new BusinessException(fallHistoryRepository.existsById(historyId)
+                        ? ErrorCode.FALL_HISTORY_NOT_OWNED
+                        : ErrorCode.FALL_HISTORY_NOT_FOUND));
     }
 
     @Transactional
@@ -47,15 +71,23 @@ public class FallHistoryService {
         }
 
         fallHistoryRepository.delete(history);
+        fallDailyRollupService.decrement(history);
+        fallHistoryStatsCache.evict(userId);
     }
 
+    /**
+     * 낙상 통계를 일자별 집계 테이블에서 조회한다. 사용자별로 캐시되며, 낙상 기록/삭제 시 무효화된다.
+     */
+    @Cacheable(cacheNames = CacheConfig.FALL_STATS, key = "#userId")
     public FallHistoryStatsResponse getStats(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        long totalCount = fallHistoryRepository.countByUserId(userId);
-        long recentWeekCount = fallHistoryRepository.countByUserIdAndDetectedAtAfter(userId, now.minusDays(7));
-        long recentMonthCount = fallHistoryRepository.countByUserIdAndDetectedAtAfter(userId, now.minusDays(30));
-        double averageConfidence = fallHistoryRepository.findAverageConfidenceByUserId(userId);
+        return fallDailyRollupService.getStats(userId);
+    }
+
+    public FallHistoryRangeStatsResponse getRangeStats(Long userId, LocalDate from, LocalDate to) {
+        return fallDailyRollupService.getRangeStats(userId, from, to);
+    }
 
-        return new FallHistoryStatsResponse(totalCount, recentWeekCount, recentMonthCount, averageConfidence);
+    public FallTrendResponse getTrend(Long userId, LocalDate from, LocalDate to, String bucket) {
+        return fallTrendService.getTrend(userId, from, to, bucket);
     }
 }
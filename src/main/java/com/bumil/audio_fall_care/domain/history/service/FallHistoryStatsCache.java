@@ -0,0 +1,52 @@
+package com.bumil.audio_fall_care.domain.history.service;
+
+import com.bumil.audio_fall_care.global.common.AfterCommit;
+import com.bumil.audio_fall_care.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 사용자별 낙상 통계 캐시 무효화.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 삭제한다.
+ * Redis 장애로 삭제에 실패해도 요청은 실패시키지 않는다. (TTL로 만료)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FallHistoryStatsCache {
+
+    private final CacheManager cacheManager;
+
+    public void evict(Long userId) {
+        evictAll(Set.of(userId));
+    }
+
+    public void evictAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        AfterCommit.run(() -> evictNow(userIds));
+    }
+
+    private void evictNow(Collection<Long> userIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.FALL_STATS);
+        if (cache == null) {
+            return;
+        }
+
+        for (Long userId : userIds) {
+            try {
+                cache.evict(userId);
+            } catch (RuntimeException e) {
+                log.warn("[Cache] 낙상 통계 캐시 삭제 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bumil.audio_fall_care.domain.history.service;
+
+import com.bumil.audio_fall_care.domain.history.dto.FallTrendPoint;
+import com.bumil.audio_fall_care.domain.history.dto.FallTrendResponse;
+import com.bumil.audio_fall_care.domain.history.dto.TrendBucket;
+import com.bumil.audio_fall_care.domain.history.repository.FallTrendJdbcRepository;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FallTrendService {
+
+    private final FallTrendJdbcRepository fallTrendJdbcRepository;
+
+    /**
+     * from ~ to(포함) 기간의 낙상 건수를 버킷/리코더/소리 유형별로 집계한다.
+     * 시간 단위는 원본 이력에서, 일/주 단위는 일자별 집계 테이블에서 계산한다.
+     * 주 단위 버킷은 월요일 시작이며, 기간 경계의 주는 기간 안의 날만 합산한다.
+     */
+    public FallTrendResponse getTrend(Long userId, LocalDate from, LocalDate to, String bucketValue) {
+        TrendBucket bucket = TrendBucket.from(bucketValue);
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= bucket.getMaxRangeDays()) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        List<FallTrendPoint> points = bucket == TrendBucket.HOUR
+                ? fallTrendJdbcRepository.findHourlyTrend(userId, from.atStartOfDay(), to.plusDays(1).atStartOfDay())
+                : fallTrendJdbcRepository.findRollupTrend(userId, bucket.getUnit(), from, to);
+
+        return new FallTrendResponse(bucket.getUnit(), from, to, points);
+    }
+}
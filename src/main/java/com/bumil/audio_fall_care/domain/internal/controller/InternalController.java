@@ -1,8 +1,14 @@
 package com.bumil.audio_fall_care.domain.internal.controller;
 
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionBatchRequest;
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionBatchResponse;
 import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionRequest;
 import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionResponse;
+import com.bumil.audio_fall_care.domain.internal.dto.RecorderHeartbeatRequest;
+import com.bumil.audio_fall_care.domain.internal.dto.RecorderHeartbeatResponse;
+import com.bumil.audio_fall_care.domain.internal.service.FallDetectionGuard;
 import com.bumil.audio_fall_care.domain.internal.service.InternalService;
+import com.bumil.audio_fall_care.domain.recorder.service.RecorderLivenessService;
 import com.bumil.audio_fall_care.global.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -15,6 +21,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Set;
+
 @Tag(name = "내부 통신", description = "AI 서버 → Spring 내부 통신 API")
 @RestController
 @RequestMapping("/api/internal")
@@ -22,17 +30,53 @@ import org.springframework.web.bind.annotation.RestController;
 public class InternalController {
 
     private final InternalService internalService;
+    private final FallDetectionGuard fallDetectionGuard;
+    private final RecorderLivenessService recorderLivenessService;
 
-    @Operation(summary = "낙상 감지 결과 수신", description = "AI 서버에서 낙상 감지 결과를 수신합니다. 인증 불필요 (AI 서버 → Spring 내부 통신)")
+    @Operation(summary = "낙상 감지 결과 수신",
+            description = "AI 서버에서 낙상 감지 결과를 수신합니다. 인증 불필요 (AI 서버 → Spring 내부 통신) "
+                    + "같은 eventId(없으면 같은 리코더의 같은 시간 윈도우)로 재전송된 요청은 최초 처리 결과를 그대로 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 성공"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 요청이 처리 중"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "리코더별 요청 한도 초과")
     })
     @PostMapping("/fall")
     public ResponseEntity<ApiResponse<FallDetectionResponse>> receiveFallDetection(
             @Valid @RequestBody FallDetectionRequest request) {
 
-        FallDetectionResponse response = internalService.processFallDetection(request);
+        FallDetectionResponse response = fallDetectionGuard.guard(request,
+                () -> internalService.processFallDetection(request));
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "낙상 감지 결과 일괄 수신",
+            description = "AI 서버에서 밀린 낙상 감지 결과를 한 번에 수신합니다. 존재하지 않는 리코더 등 실패 항목은 개별 결과로 반환되며 나머지 항목은 정상 처리됩니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 성공 (항목별 결과 포함)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping("/fall/batch")
+    public ResponseEntity<ApiResponse<FallDetectionBatchResponse>> receiveFallDetections(
+            @Valid @RequestBody FallDetectionBatchRequest request) {
+
+        FallDetectionBatchResponse response = internalService.processFallDetections(request.detections());
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
+
+    @Operation(summary = "리코더 하트비트 일괄 수신",
+            description = "AI 서버 또는 리코더에서 하트비트를 한 번에 수신합니다. 마지막 신호 시각만 기록하며, "
+                    + "일정 시간 신호가 없는 리코더는 DISCONNECTED로 전환되고 경고 알림이 생성됩니다. 존재하지 않는 리코더 ID는 응답에 포함됩니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping("/recorders/heartbeat")
+    public ResponseEntity<ApiResponse<RecorderHeartbeatResponse>> receiveHeartbeats(
+            @Valid @RequestBody RecorderHeartbeatRequest request) {
+
+        Set<Long> acceptedIds = recorderLivenessService.heartbeat(request.recorderIds());
+        return ResponseEntity.ok(ApiResponse.ok(RecorderHeartbeatResponse.of(request.recorderIds(), acceptedIds)));
+    }
 }
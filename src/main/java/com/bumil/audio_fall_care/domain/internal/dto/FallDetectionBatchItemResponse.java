@@ -0,0 +1,23 @@
+package com.bumil.audio_fall_care.domain.internal.dto;
+
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FallDetectionBatchItemResponse(
+        int index,
+        Long recorderId,
+        boolean success,
+        FallDetectionResponse result,
+        String errorCode,
+        String errorMessage
+) {
+    public static FallDetectionBatchItemResponse success(int index, FallDetectionResponse result) {
+        return new FallDetectionBatchItemResponse(index, result.recorderId(), true, result, null, null);
+    }
+
+    public static FallDetectionBatchItemResponse failure(int index, Long recorderId, ErrorCode errorCode) {
+        return new FallDetectionBatchItemResponse(
+                index, recorderId, false, null, errorCode.getCode(), errorCode.getMessage());
+    }
+}
@@ -0,0 +1,16 @@
+package com.bumil.audio_fall_care.domain.internal.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record FallDetectionBatchRequest(
+
+        @Valid
+        @NotEmpty(message = "detections는 비어 있을 수 없습니다")
+        @Size(max = 500, message = "detections는 최대 500건까지 전송할 수 있습니다")
+        List<FallDetectionRequest> detections
+) {
+}
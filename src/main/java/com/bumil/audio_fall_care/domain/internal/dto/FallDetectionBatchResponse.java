@@ -0,0 +1,20 @@
+package com.bumil.audio_fall_care.domain.internal.dto;
+
+import java.util.List;
+
+public record FallDetectionBatchResponse(
+        int requestedCount,
+        int successCount,
+        int failureCount,
+        List<FallDetectionBatchItemResponse> results
+) {
+    public static FallDetectionBatchResponse of(List<FallDetectionBatchItemResponse> results) {
+        int successCount = (int) results.stream().filter(FallDetectionBatchItemResponse::success).count();
+        return new FallDetectionBatchResponse(
+                results.size(),
+                successCount,
+                results.size() - successCount,
+                results
+        );
+    }
+}
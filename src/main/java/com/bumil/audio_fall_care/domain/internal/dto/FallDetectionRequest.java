@@ -1,6 +1,7 @@
 package com.bumil.audio_fall_care.domain.internal.dto;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
 
@@ -15,6 +16,10 @@ public record FallDetectionRequest(
         @NotNull(message = "soundType은 필수입니다")
         String soundType,
 
-        LocalDateTime detectedAt
+        LocalDateTime detectedAt,
+
+        // AI 서버가 부여한 이벤트 ID (선택). 있으면 이 값으로 중복 요청을 판별한다.
+        @Size(max = 100, message = "eventId는 100자 이하여야 합니다")
+        String eventId
 ) {
 }
@@ -0,0 +1,15 @@
+package com.bumil.audio_fall_care.domain.internal.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record RecorderHeartbeatRequest(
+
+        @NotEmpty(message = "recorderIds는 비어 있을 수 없습니다")
+        @Size(max = 1000, message = "recorderIds는 최대 1000건까지 전송할 수 있습니다")
+        List<@NotNull Long> recorderIds
+) {
+}
@@ -0,0 +1,20 @@
+package com.bumil.audio_fall_care.domain.internal.dto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public record RecorderHeartbeatResponse(
+        int acceptedCount,
+        List<Long> unknownRecorderIds
+) {
+    public static RecorderHeartbeatResponse of(Collection<Long> requestedIds, Set<Long> acceptedIds) {
+        return new RecorderHeartbeatResponse(
+                acceptedIds.size(),
+                requestedIds.stream()
+                        .distinct()
+                        .filter(id -> !acceptedIds.contains(id))
+                        .toList()
+        );
+    }
+}
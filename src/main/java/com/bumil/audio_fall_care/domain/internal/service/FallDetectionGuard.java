@@ -0,0 +1,196 @@
+package com.bumil.audio_fall_care.domain.internal.service;
+
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionRequest;
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionResponse;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 낙상 감지 수신 전 중복 제거와 리코더별 레이트 리밋을 적용한다.
+ *
+ * 1. 멱등 키 선점 (eventId, 없으면 감지 내용 detectedAt + confidence + soundType)
+ *    - 이미 처리된 키면 저장된 최초 응답을 DB 접근 없이 반환
+ *    - 처리 중인 키면 FALL_DETECTION_IN_PROGRESS
+ *    - 재전송만 걸러내며, 내용이 다른 감지는 모두 낙상 이력에 기록되고 알림 병합(coalesce)으로 묶인다.
+ *      eventId와 detectedAt이 모두 없으면 재전송을 구분할 수 없으므로 중복 검사 없이 레이트 리밋만 적용한다.
+ * 2. 리코더별 토큰 버킷 (Lua 스크립트로 원자적 처리)
+ * 3. 처리 성공 시 응답을 멱등 키에 저장, 실패 시 키를 해제하여 재시도 허용
+ *
+ * Redis 장애 시에는 낙상 알림이 유실되지 않도록 검사 없이 처리한다. (fail-open)
+ */
+@Slf4j
+@Component
+public class FallDetectionGuard {
+
+    private static final String IDEMPOTENCY_KEY_PREFIX = "FALL:IDEM:";
+    private static final String RATE_LIMIT_KEY_PREFIX = "FALL:RL:";
+    private static final String PENDING = "PENDING";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisScript<Long> tokenBucketScript;
+    private final boolean enabled;
+    private final Duration dedupWindow;
+    private final int bucketCapacity;
+    private final double refillPerSecond;
+
+    public FallDetectionGuard(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${internal.fall.guard.enabled:true}") boolean enabled,
+            @Value("${internal.fall.guard.dedup-window-seconds:30}") long dedupWindowSeconds,
+            @Value("${internal.fall.guard.rate-limit.capacity:10}") int bucketCapacity,
+            @Value("${internal.fall.guard.rate-limit.refill-per-second:0.5}") double refillPerSecond
+    ) {
+        // 충전 속도가 0이면 Lua 스크립트의 TTL 계산이 0으로 나눠 실패하고, 가드가 fail-open으로 빠져 레이트 리밋이 꺼진다
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException(
+                    "internal.fall.guard.rate-limit.refill-per-second는 0보다 커야 합니다: " + refillPerSecond);
+        }
+        if (bucketCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "internal.fall.guard.rate-limit.capacity는 1 이상이어야 합니다: " + bucketCapacity);
+        }
+
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.tokenBucketScript = RedisScript.of(new ClassPathResource("redis/token_bucket.lua"), Long.class);
+        this.enabled = enabled;
+        this.dedupWindow = Duration.ofSeconds(dedupWindowSeconds);
+        this.bucketCapacity = bucketCapacity;
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    public FallDetectionResponse guard(FallDetectionRequest request, Supplier<FallDetectionResponse> processor) {
+        if (!enabled) {
+            return processor.get();
+        }
+
+        String idempotencyKey = idempotencyKey(request);
+        if (idempotencyKey == null) {
+            acquireOrThrow(request.recorderId());
+            return processor.get();
+        }
+
+        Boolean reserved;
+        try {
+            reserved = redisTemplate.opsForValue().setIfAbsent(idempotencyKey, PENDING, dedupWindow);
+        } catch (DataAccessException e) {
+            log.warn("[FallGuard] Redis 사용 불가 - 중복/레이트 리밋 검사 생략: recorderId={}, error={}",
+                    request.recorderId(), e.getMessage());
+            return processor.get();
+        }
+
+        if (!Boolean.TRUE.equals(reserved)) {
+            return duplicateResponse(idempotencyKey, request, processor);
+        }
+
+        try {
+            acquireOrThrow(request.recorderId());
+        } catch (BusinessException e) {
+            release(idempotencyKey);
+            throw e;
+        }
+
+        FallDetectionResponse response;
+        try {
+            response = processor.get();
+        } catch (RuntimeException e) {
+            release(idempotencyKey);
+            throw e;
+        }
+
+        complete(idempotencyKey, response);
+        return response;
+    }
+
+    private FallDetectionResponse duplicateResponse(String idempotencyKey, FallDetectionRequest request,
+                                                    Supplier<FallDetectionResponse> processor) {
+        String stored;
+        try {
+            stored = redisTemplate.opsForValue().get(idempotencyKey);
+        } catch (DataAccessException e) {
+            log.warn("[FallGuard] Redis 사용 불가 - 중복 검사 생략: recorderId={}, error={}",
+                    request.recorderId(), e.getMessage());
+            return processor.get();
+        }
+
+        if (stored == null || PENDING.equals(stored)) {
+            log.info("[FallGuard] 처리 중인 중복 요청: recorderId={}, key={}", request.recorderId(), idempotencyKey);
+            throw new BusinessException(ErrorCode.FALL_DETECTION_IN_PROGRESS);
+        }
+
+        try {
+            log.info("[FallGuard] 중복 요청 - 최초 응답 반환: recorderId={}, key={}", request.recorderId(), idempotencyKey);
+            return objectMapper.readValue(stored, FallDetectionResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void acquireOrThrow(Long recorderId) {
+        if (!tryAcquire(recorderId)) {
+            log.warn("[FallGuard] 레이트 리밋 초과: recorderId={}", recorderId);
+            throw new BusinessException(ErrorCode.FALL_DETECTION_RATE_LIMITED);
+        }
+    }
+
+    private boolean tryAcquire(Long recorderId) {
+        try {
+            Long allowed = redisTemplate.execute(tokenBucketScript,
+                    List.of(RATE_LIMIT_KEY_PREFIX + recorderId),
+                    String.valueOf(bucketCapacity), String.valueOf(refillPerSecond));
+            return allowed == null || allowed == 1L;
+        } catch (DataAccessException e) {
+            log.warn("[FallGuard] 레이트 리밋 검사 실패 - 허용 처리: recorderId={}, error={}", recorderId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void complete(String idempotencyKey, FallDetectionResponse response) {
+        try {
+            redisTemplate.opsForValue().set(idempotencyKey, objectMapper.writeValueAsString(response), dedupWindow);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("[FallGuard] 처리 결과 저장 실패: key={}, error={}", idempotencyKey, e.getMessage());
+        }
+    }
+
+    private void release(String idempotencyKey) {
+        try {
+            redisTemplate.delete(idempotencyKey);
+        } catch (DataAccessException e) {
+            log.warn("[FallGuard] 멱등 키 해제 실패: key={}, error={}", idempotencyKey, e.getMessage());
+        }
+    }
+
+    /**
+     * eventId가 없으면 AI 서버가 보낸 감지 내용이 완전히 같은 요청만 재전송으로 본다.
+     * 시간 구간으로 묶으면 같은 구간의 서로 다른 감지가 버려져 병합 횟수/최고 신뢰도가 어긋난다.
+     */
+    private String idempotencyKey(FallDetectionRequest request) {
+        if (StringUtils.hasText(request.eventId())) {
+            return IDEMPOTENCY_KEY_PREFIX + request.recorderId() + ":E:" + request.eventId();
+        }
+
+        if (request.detectedAt() == null) {
+            return null;
+        }
+
+        return IDEMPOTENCY_KEY_PREFIX + request.recorderId() + ":D:" + request.detectedAt()
+                + ":" + request.confidence() + ":" + request.soundType();
+    }
+}
@@ -1,92 +1,350 @@
 package com.bumil.audio_fall_care.domain.internal.service;
 
+import com.bumil.audio_fall_care.domain.alert.dto.AlertStreamMessage;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
 import com.bumil.audio_fall_care.domain.alert.entity.Alert;
 import com.bumil.audio_fall_care.domain.alert.entity.AlertType;
+import com.bumil.audio_fall_care.domain.alert.repository.AlertJdbcRepository;
 import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
-import com.bumil.audio_fall_care.domain.fcm.service.FcmServiceInterface;
+import com.bumil.audio_fall_care.domain.alert.service.AlertStreamPublisher;
+import com.bumil.audio_fall_care.domain.alert.service.UnreadAlertCounter;
+import com.bumil.audio_fall_care.domain.fcm.dto.PushNotification;
+import com.bumil.audio_fall_care.domain.fcm.service.PushOutboxService;
 import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import com.bumil.audio_fall_care.domain.history.repository.FallHistoryJdbcRepository;
 import com.bumil.audio_fall_care.domain.history.repository.FallHistoryRepository;
+import com.bumil.audio_fall_care.domain.history.service.FallDailyRollupService;
+import com.bumil.audio_fall_care.domain.history.service.FallHistoryStatsCache;
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionBatchItemResponse;
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionBatchResponse;
 import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionRequest;
 import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionResponse;
-import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderLockJdbcRepository;
 import com.bumil.audio_fall_care.domain.recorder.repository.RecorderRepository;
-import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.domain.recorder.service.RecorderCache;
+import com.bumil.audio_fall_care.domain.user.repository.UserRepository;
 import com.bumil.audio_fall_care.global.common.BusinessException;
 import com.bumil.audio_fall_care.global.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class InternalService {
 
+    private static final String ALERT_TITLE = "낙상 감지 알림";
+
     private final RecorderRepository recorderRepository;
+    private final RecorderLockJdbcRepository recorderLockJdbcRepository;
+    private final RecorderCache recorderCache;
+    private final UserRepository userRepository;
     private final FallHistoryRepository fallHistoryRepository;
+    private final FallHistoryJdbcRepository fallHistoryJdbcRepository;
     private final AlertRepository alertRepository;
-    private final FcmServiceInterface fcmService;
+    private final AlertJdbcRepository alertJdbcRepository;
+    private final PushOutboxService pushOutboxService;
+    private final FallDailyRollupService fallDailyRollupService;
+    private final FallHistoryStatsCache fallHistoryStatsCache;
+    private final AlertStreamPublisher alertStreamPublisher;
+    private final UnreadAlertCounter unreadAlertCounter;
+
+    /**
+     * 같은 리코더의 낙상 감지를 하나의 알림으로 병합하는 윈도우 (0 이하이면 병합하지 않음)
+     */
+    @Value("${internal.fall.coalesce-window-seconds:10}")
+    private long coalesceWindowSeconds;
 
     /**
      * AI 서버에서 낙상 감지 결과를 수신하여 처리한다.
      *
-     * 1. Recorder 조회
-     * 2. FallHistory 저장
-     * 3. Alert 생성
-     * 4. FCM 푸시 알림 전송
+     * 1. Recorder 조회 (RecorderCache, 병합 시 리코더 단위 advisory lock으로 처리 직렬화)
+     * 2. FallHistory 저장 (모든 감지를 기록)
+     * 3. 병합 윈도우 내 알림이 있으면 갱신, 없으면 Alert 생성
+     * 4. 새 Alert인 경우에만 FCM 푸시 알림 outbox 기록 (커밋 이후 비동기 전송)
+     * 5. 실시간 알림 스트림 발행 (커밋 이후, 병합 갱신 포함)
      */
     @Transactional
     public FallDetectionResponse processFallDetection(FallDetectionRequest request) {
-        // 1. Recorder 조회
-        Recorder recorder = recorderRepository.findById(request.recorderId())
+        // 1. Recorder 조회 (Recorder, User FK는 프록시 참조로만 사용)
+        RecorderSnapshot recorder = recorderCache.get(request.recorderId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.RECORDER_NOT_FOUND));
+        lockForCoalescing(List.of(recorder.recorderId()));
 
-        User user = recorder.getUser();
+        Long userId = recorder.userId();
         LocalDateTime detectedAt = request.detectedAt() != null ? request.detectedAt() : LocalDateTime.now();
 
         // 2. FallHistory 저장
-        FallHistory history = FallHistory.builder()
-                .recorder(recorder)
-                .user(user)
+        FallHistory history = buildHistory(recorder, request, detectedAt);
+        fallHistoryRepository.save(history);
+        fallDailyRollupService.increment(List.of(history));
+        fallHistoryStatsCache.evict(userId);
+
+        // 3. 병합 윈도우 내 알림 갱신 또는 Alert 생성
+        Alert alert = findCoalescingAlert(loadCoalescingCandidates(List.of(history)), history);
+        if (alert != null) {
+            absorb(alert, recorder, request, detectedAt);
+            log.info("낙상 감지 알림 병합: recorderId={}, alertId={}, eventCount={}",
+                    recorder.recorderId(), alert.getId(), alert.getEventCount());
+        } else {
+            alert = buildAlert(recorder, request, detectedAt);
+            alertRepository.save(alert);
+            unreadAlertCounter.addAfterCommit(userId, 1);
+
+            // 4. FCM 푸시 알림 outbox 기록 (커밋 이후 비동기 전송)
+            pushOutboxService.enqueue(toPushNotification(userId, alert.getId(), alert.getMessage()));
+        }
+
+        // 5. 실시간 알림 스트림 발행 (커밋 이후)
+        alertStreamPublisher.publishAfterCommit(List.of(new AlertStreamMessage(userId, AlertResponse.from(alert))));
+
+        log.info("낙상 감지 처리 완료: recorderId={}, userId={}, confidence={}, soundType={}",
+                recorder.recorderId(), userId, request.confidence(), request.soundType());
+
+        return toResponse(history.getId(), alert.getId(), recorder, request, detectedAt);
+    }
+
+    /**
+     * AI 서버에서 밀린 낙상 감지 결과를 한 번에 수신하여 처리한다.
+     *
+     * 1. Recorder 일괄 조회 (RecorderCache, 캐시에 없는 것만 단일 쿼리. 병합 시 ID 순서로 advisory lock)
+     * 2. 존재하지 않는 Recorder는 실패 항목으로 기록하고 나머지만 처리
+     * 3. FallHistory JDBC 배치 저장
+     * 4. 감지 시각 순으로 병합 윈도우를 적용해 Alert 갱신 또는 생성 (새 Alert만 JDBC 배치 저장)
+     * 5. 새 Alert에 대해서만 FCM 푸시 알림 outbox 일괄 기록 (커밋 이후 비동기 전송)
+     * 6. 생성/갱신된 Alert 실시간 알림 스트림 발행 (커밋 이후)
+     */
+    @Transactional
+    public FallDetectionBatchResponse processFallDetections(List<FallDetectionRequest> requests) {
+        // 1. Recorder 일괄 조회
+        Set<Long> recorderIds = requests.stream()
+                .map(FallDetectionRequest::recorderId)
+                .collect(Collectors.toSet());
+        Map<Long, RecorderSnapshot> recorders = recorderCache.getAll(recorderIds);
+        lockForCoalescing(recorders.keySet());
+
+        // 2. 항목별 검증 및 엔티티 구성
+        LocalDateTime now = LocalDateTime.now();
+        FallDetectionBatchItemResponse[] results = new FallDetectionBatchItemResponse[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<FallHistory> histories = new ArrayList<>();
+        List<RecorderSnapshot> historyRecorders = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            FallDetectionRequest request = requests.get(i);
+            RecorderSnapshot recorder = recorders.get(request.recorderId());
+
+            if (recorder == null) {
+                log.warn("낙상 감지 배치 항목 실패 - 존재하지 않는 리코더: index={}, recorderId={}",
+                        i, request.recorderId());
+                results[i] = FallDetectionBatchItemResponse.failure(i, request.recorderId(), ErrorCode.RECORDER_NOT_FOUND);
+                continue;
+            }
+
+            LocalDateTime detectedAt = request.detectedAt() != null ? request.detectedAt() : now;
+            acceptedIndexes.add(i);
+            histories.add(buildHistory(recorder, request, detectedAt));
+            historyRecorders.add(recorder);
+        }
+
+        // 3. FallHistory 배치 저장
+        List<Long> historyIds = fallHistoryJdbcRepository.batchInsert(histories, now);
+        fallDailyRollupService.increment(histories);
+        fallHistoryStatsCache.evictAll(histories.stream()
+                .map(history -> history.getUser().getId())
+                .collect(Collectors.toSet()));
+
+        // 4. 감지 시각 순으로 병합 윈도우 적용 (윈도우는 가장 이른 감지에서 열린다)
+        Map<Long, List<Alert>> candidates = loadCoalescingCandidates(histories);
+        Alert[] itemAlerts = new Alert[histories.size()];
+        List<Alert> newAlerts = new ArrayList<>();
+        List<Integer> detectionOrder = IntStream.range(0, histories.size()).boxed()
+                .sorted(Comparator.comparing(j -> histories.get(j).getDetectedAt()))
+                .toList();
+
+        for (int j : detectionOrder) {
+            FallHistory history = histories.get(j);
+            RecorderSnapshot recorder = historyRecorders.get(j);
+            FallDetectionRequest request = requests.get(acceptedIndexes.get(j));
+            Alert alert = findCoalescingAlert(candidates, history);
+
+            if (alert != null) {
+                absorb(alert, recorder, request, history.getDetectedAt());
+            } else {
+                alert = buildAlert(recorder, request, history.getDetectedAt());
+                candidates.computeIfAbsent(recorder.recorderId(), id -> new ArrayList<>()).add(alert);
+                newAlerts.add(alert);
+            }
+            itemAlerts[j] = alert;
+        }
+
+        List<Long> newAlertIds = alertJdbcRepository.batchInsert(newAlerts, now);
+        unreadAlertCounter.addAfterCommit(newAlerts.stream()
+                .collect(Collectors.groupingBy(alert -> alert.getUser().getId(), Collectors.counting())));
+        Map<Alert, Long> alertIds = new IdentityHashMap<>();
+        List<PushNotification> notifications = new ArrayList<>();
+        for (int k = 0; k < newAlerts.size(); k++) {
+            Alert alert = newAlerts.get(k);
+            alertIds.put(alert, newAlertIds.get(k));
+            notifications.add(toPushNotification(alert.getUser().getId(), newAlertIds.get(k), alert.getMessage()));
+        }
+
+        // 5. 결과 구성 및 FCM 푸시 알림 outbox 일괄 기록
+        for (int j = 0; j < acceptedIndexes.size(); j++) {
+            int index = acceptedIndexes.get(j);
+            FallHistory history = histories.get(j);
+            Alert alert = itemAlerts[j];
+            Long alertId = alert.getId() != null ? alert.getId() : alertIds.get(alert);
+
+            results[index] = FallDetectionBatchItemResponse.success(index, toResponse(
+                    historyIds.get(j), alertId, historyRecorders.get(j), requests.get(index), history.getDetectedAt()));
+        }
+
+        pushOutboxService.enqueueAll(notifications);
+
+        // 6. 실시간 알림 스트림 발행 (알림당 한 번, 커밋 이후)
+        Set<Alert> touchedAlerts = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<AlertStreamMessage> streamMessages = new ArrayList<>();
+        for (Alert alert : itemAlerts) {
+            if (touchedAlerts.add(alert)) {
+                AlertResponse response = alert.getId() != null
+                        ? AlertResponse.from(alert)
+                        : AlertResponse.of(alert, alertIds.get(alert), now);
+                streamMessages.add(new AlertStreamMessage(alert.getUser().getId(), response));
+            }
+        }
+        alertStreamPublisher.publishAfterCommit(streamMessages);
+
+        log.info("낙상 감지 배치 처리 완료: requested={}, succeeded={}, alerts={}",
+                requests.size(), acceptedIndexes.size(), newAlerts.size());
+
+        return FallDetectionBatchResponse.of(Arrays.asList(results));
+    }
+
+    private FallHistory buildHistory(RecorderSnapshot recorder, FallDetectionRequest request, LocalDateTime detectedAt) {
+        return FallHistory.builder()
+                .recorder(recorderRepository.getReferenceById(recorder.recorderId()))
+                .user(userRepository.getReferenceById(recorder.userId()))
                 .confidence(request.confidence())
                 .soundType(request.soundType())
                 .detectedAt(detectedAt)
                 .build();
-        fallHistoryRepository.save(history);
+    }
 
-        // 3. Alert 생성
+    private Alert buildAlert(RecorderSnapshot recorder, FallDetectionRequest request, LocalDateTime detectedAt) {
         String alertMessage = String.format(
                 "[낙상 감지] %s에서 낙상이 감지되었습니다. (신뢰도: %.0f%%, 소리 유형: %s)",
-                recorder.getDeviceName(),
+                recorder.deviceName(),
                 request.confidence() * 100,
                 request.soundType()
         );
 
-        Alert alert = Alert.builder()
-                .user(user)
+        return Alert.builder()
+                .user(userRepository.getReferenceById(recorder.userId()))
+                .recorder(recorderRepository.getReferenceById(recorder.recorderId()))
                 .type(AlertType.FALL)
                 .message(alertMessage)
+                .maxConfidence(request.confidence())
+                .firstDetectedAt(detectedAt)
+                .lastDetectedAt(detectedAt)
                 .build();
-        alertRepository.save(alert);
+    }
 
-        // 4. FCM 푸시 알림 전송
-        try {
-            fcmService.sendToUser(user.getId(), "낙상 감지 알림", alertMessage);
-        } catch (Exception e) {
-            log.error("FCM 알림 전송 실패: userId={}, error={}", user.getId(), e.getMessage());
+    /**
+     * 병합 윈도우 내 추가 감지를 기존 알림에 반영한다. 푸시는 다시 보내지 않는다.
+     */
+    private void absorb(Alert alert, RecorderSnapshot recorder, FallDetectionRequest request, LocalDateTime detectedAt) {
+        alert.absorb(request.confidence(), detectedAt);
+        alert.updateMessage(String.format(
+                "[낙상 감지] %s에서 낙상이 감지되었습니다. (최고 신뢰도: %.0f%%, 감지 횟수: %d회)",
+                recorder.deviceName(),
+                alert.getMaxConfidence() * 100,
+                alert.getEventCount()
+        ));
+    }
+
+    /**
+     * 리코더별 병합 후보 알림을 한 번에 조회한다. 가장 이른 감지 시각 - 윈도우 이후에 열린 FALL 알림만 대상이다.
+     */
+    private Map<Long, List<Alert>> loadCoalescingCandidates(List<FallHistory> histories) {
+        if (coalesceWindowSeconds <= 0 || histories.isEmpty()) {
+            return new HashMap<>();
         }
 
-        log.info("낙상 감지 처리 완료: recorderId={}, userId={}, confidence={}, soundType={}",
-                recorder.getId(), user.getId(), request.confidence(), request.soundType());
+        Set<Long> recorderIds = histories.stream()
+                .map(history -> history.getRecorder().getId())
+                .collect(Collectors.toSet());
+        LocalDateTime since = histories.stream()
+                .map(FallHistory::getDetectedAt)
+                .min(Comparator.naturalOrder())
+                .orElseThrow()
+                .minus(coalesceWindow());
+
+        return alertRepository.findRecentByRecorderIds(recorderIds, AlertType.FALL, since).stream()
+                .collect(Collectors.groupingBy(alert -> alert.getRecorder().getId(),
+                        HashMap::new, Collectors.toCollection(ArrayList::new)));
+    }
+
+    /**
+     * 감지 시각이 윈도우(첫 감지 ± 윈도우) 안에 드는 후보 중 가장 최근에 열린 알림을 찾는다.
+     */
+    private Alert findCoalescingAlert(Map<Long, List<Alert>> candidates, FallHistory history) {
+        if (coalesceWindowSeconds <= 0) {
+            return null;
+        }
+
+        Duration window = coalesceWindow();
+        LocalDateTime detectedAt = history.getDetectedAt();
+        return candidates.getOrDefault(history.getRecorder().getId(), List.of()).stream()
+                .filter(alert -> detectedAt.isAfter(alert.getFirstDetectedAt().minus(window))
+                        && detectedAt.isBefore(alert.getFirstDetectedAt().plus(window)))
+                .max(Comparator.comparing(Alert::getFirstDetectedAt))
+                .orElse(null);
+    }
+
+    /**
+     * 같은 리코더의 병합 판단이 동시에 일어나지 않도록 트랜잭션 동안 리코더 단위로 잠근다.
+     */
+    private void lockForCoalescing(Collection<Long> recorderIds) {
+        if (coalesceWindowSeconds > 0 && !recorderIds.isEmpty()) {
+            recorderLockJdbcRepository.lock(recorderIds);
+        }
+    }
+
+    private Duration coalesceWindow() {
+        return Duration.ofSeconds(coalesceWindowSeconds);
+    }
+
+    private PushNotification toPushNotification(Long userId, Long alertId, String message) {
+        return new PushNotification(userId, alertId, ALERT_TITLE, message);
+    }
 
+    private FallDetectionResponse toResponse(Long historyId, Long alertId, RecorderSnapshot recorder,
+                                             FallDetectionRequest request, LocalDateTime detectedAt) {
         return new FallDetectionResponse(
-                history.getId(),
-                alert.getId(),
-                recorder.getId(),
-                user.getId(),
+                historyId,
+                alertId,
+                recorder.recorderId(),
+                recorder.userId(),
                 request.confidence(),
                 request.soundType(),
                 detectedAt
@@ -0,0 +1,14 @@
+package com.bumil.audio_fall_care.domain.recorder.dto;
+
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+
+/**
+ * 낙상 감지 수신 경로에서 쓰는 리코더 요약 (RecorderCache 캐시 값)
+ */
+public record RecorderSnapshot(
+        Long recorderId,
+        Long userId,
+        String deviceName,
+        RecorderStatus status
+) {
+}
@@ -1,10 +1,12 @@
 package com.bumil.audio_fall_care.domain.recorder.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class RecorderUserResponse {
     private Long userId;
     private String username;
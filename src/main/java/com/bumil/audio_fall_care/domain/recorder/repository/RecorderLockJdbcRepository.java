@@ -0,0 +1,51 @@
+package com.bumil.audio_fall_care.domain.recorder.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+
+/**
+ * 리코더 단위 트랜잭션 advisory lock.
+ * 리코더 행을 읽지 않고 같은 리코더의 동시 낙상 감지 처리를 직렬화한다. (커밋/롤백 시 자동 해제)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecorderLockJdbcRepository {
+
+    /**
+     * advisory lock 키 공간에서 리코더 잠금이 쓰는 첫 번째 키. 다른 용도의 advisory lock과 겹치지 않게 고정한다.
+     */
+    private static final int RECORDER_LOCK_NAMESPACE = 1001;
+
+    /**
+     * 두 번째 키는 int4라 리코더 ID를 2^31로 나눈 나머지를 쓴다. (키가 겹치면 한 번 더 기다릴 뿐 정합성에는 문제없다)
+     */
+    private static final String LOCK_SQL = """
+            SELECT pg_advisory_xact_lock(?, CAST(id % 2147483648 AS integer))
+            FROM unnest(?) AS id
+            ORDER BY id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 번의 쿼리로 모든 리코더를 잠근다.
+     * ID 오름차순으로 잠가 여러 리코더를 함께 잠그는 요청 사이의 교착을 피한다.
+     */
+    public void lock(Collection<Long> recorderIds) {
+        if (recorderIds.isEmpty()) {
+            return;
+        }
+
+        Object[] ids = recorderIds.stream().distinct().toArray();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOCK_SQL);
+            ps.setInt(1, RECORDER_LOCK_NAMESPACE);
+            ps.setArray(2, con.createArrayOf("bigint", ids));
+            return ps;
+        }, rs -> null);
+    }
+}
@@ -1,10 +1,50 @@
 package com.bumil.audio_fall_care.domain.recorder.repository;
 
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderResponse;
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot;
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderUserResponse;
 import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface RecorderRepository extends JpaRepository<Recorder, Long> {
-    List<Recorder> findByUserId(Long userId);
+    @Query("SELECT new com.bumil.audio_fall_care.domain.recorder.dto.RecorderResponse(" +
+            "r.id, r.deviceName, r.status, r.createdAt, r.updatedAt) " +
+            "FROM Recorder r WHERE r.user.id = :userId")
+    List<RecorderResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.bumil.audio_fall_care.domain.recorder.dto.RecorderResponse(" +
+            "r.id, r.deviceName, r.status, r.createdAt, r.updatedAt) " +
+            "FROM Recorder r WHERE r.id = :id AND r.user.id = :userId")
+    Optional<RecorderResponse> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT new com.bumil.audio_fall_care.domain.recorder.dto.RecorderUserResponse(u.id, u.username) " +
+            "FROM Recorder r JOIN r.user u WHERE r.id = :id")
+    Optional<RecorderUserResponse> findUserResponseById(@Param("id") Long id);
+
+    @Query("SELECT new com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot(r.id, r.user.id, r.deviceName, r.status) " +
+            "FROM Recorder r WHERE r.id = :id")
+    Optional<RecorderSnapshot> findSnapshotById(@Param("id") Long id);
+
+    @Query("SELECT new com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot(r.id, r.user.id, r.deviceName, r.status) " +
+            "FROM Recorder r WHERE r.id IN :ids")
+    List<RecorderSnapshot> findSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 하트비트가 다시 들어온 리코더 중 from 상태인 것만 to 상태로 바꾼다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Recorder r SET r.status = :to, r.updatedAt = :now WHERE r.id IN :ids AND r.status = :from")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("from") RecorderStatus from,
+                           @Param("to") RecorderStatus to,
+                           @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,54 @@
+package com.bumil.audio_fall_care.domain.recorder.repository;
+
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot;
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리코더 상태 일괄 갱신용 JDBC 리포지토리.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecorderStatusJdbcRepository {
+
+    private static final String DISCONNECT_SQL = """
+            UPDATE recorders
+            SET status = 'DISCONNECTED', updated_at = ?
+            WHERE id = ANY (?) AND status = 'CONNECTED'
+            RETURNING id, user_id, device_name
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * CONNECTED 상태인 리코더만 한 번의 UPDATE로 DISCONNECTED로 바꾼다.
+     * 여러 인스턴스가 같은 리코더를 동시에 처리해도 상태를 실제로 바꾼 쪽에만 반환된다.
+     *
+     * @return 상태가 바뀐 리코더
+     */
+    public List<RecorderSnapshot> disconnect(Collection<Long> recorderIds, LocalDateTime now) {
+        if (recorderIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(con -> {
+                    PreparedStatement ps = con.prepareStatement(DISCONNECT_SQL);
+                    ps.setObject(1, now);
+                    ps.setArray(2, con.createArrayOf("bigint", recorderIds.toArray()));
+                    return ps;
+                },
+                (rs, rowNum) -> new RecorderSnapshot(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getString("device_name"),
+                        RecorderStatus.DISCONNECTED
+                ));
+    }
+}
@@ -0,0 +1,109 @@
+package com.bumil.audio_fall_care.domain.recorder.service;
+
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderRepository;
+import com.bumil.audio_fall_care.global.common.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 리코더 ID → (사용자 ID, 기기 이름, 상태) 인스턴스 로컬 캐시.
+ * 낙상 감지 수신 경로에서 리코더/사용자 조회를 생략하기 위해 사용한다.
+ *
+ * - 크기와 TTL로 제한하며, 없는 리코더는 캐시하지 않는다.
+ * - 리코더 변경/삭제 시 커밋 이후 로컬 캐시를 비우고 Redis 채널로 다른 인스턴스에 무효화를 알린다.
+ * - 무효화 발행에 실패하면 다른 인스턴스는 TTL까지 이전 값을 볼 수 있다.
+ */
+@Slf4j
+@Component
+public class RecorderCache implements MessageListener {
+
+    private final Cache<Long, RecorderSnapshot> cache;
+    private final RecorderRepository recorderRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String channel;
+
+    public RecorderCache(
+            RecorderRepository recorderRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${recorder.cache.max-size:10000}") long maxSize,
+            @Value("${recorder.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${recorder.cache.invalidation-channel:recorder:invalidate}") String channel
+    ) {
+        this.recorderRepository = recorderRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.channel = channel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    void register() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    public Optional<RecorderSnapshot> get(Long recorderId) {
+        return Optional.ofNullable(cache.get(recorderId,
+                id -> recorderRepository.findSnapshotById(id).orElse(null)));
+    }
+
+    /**
+     * 캐시에 없는 리코더만 한 번의 쿼리로 조회한다. 존재하지 않는 리코더는 결과에서 빠진다.
+     */
+    public Map<Long, RecorderSnapshot> getAll(Collection<Long> recorderIds) {
+        return cache.getAll(recorderIds, missing -> recorderRepository.findSnapshotsByIdIn(new HashSet<>(missing)).stream()
+                .collect(Collectors.toMap(RecorderSnapshot::recorderId, Function.identity())));
+    }
+
+    /**
+     * 이 인스턴스의 로컬 캐시는 바로 비우고, Redis 무효화 발행은 커밋 이후에 한다.
+     */
+    public void evict(Long recorderId) {
+        cache.invalidate(recorderId);
+
+        AfterCommit.run(() -> evictEverywhere(recorderId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            cache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("[RecorderCache] 잘못된 무효화 메시지: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void evictEverywhere(Long recorderId) {
+        cache.invalidate(recorderId);
+        try {
+            redisTemplate.convertAndSend(channel, String.valueOf(recorderId));
+        } catch (DataAccessException e) {
+            log.warn("[RecorderCache] 무효화 발행 실패 (다른 인스턴스는 TTL로 만료): recorderId={}, error={}",
+                    recorderId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.bumil.audio_fall_care.domain.recorder.service;
+
+import com.bumil.audio_fall_care.domain.alert.dto.AlertStreamMessage;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
+import com.bumil.audio_fall_care.domain.alert.entity.Alert;
+import com.bumil.audio_fall_care.domain.alert.entity.AlertType;
+import com.bumil.audio_fall_care.domain.alert.repository.AlertJdbcRepository;
+import com.bumil.audio_fall_care.domain.alert.service.AlertStreamPublisher;
+import com.bumil.audio_fall_care.domain.alert.service.UnreadAlertCounter;
+import com.bumil.audio_fall_care.domain.fcm.dto.PushNotification;
+import com.bumil.audio_fall_care.domain.fcm.service.PushOutboxService;
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot;
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderRepository;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderStatusJdbcRepository;
+import com.bumil.audio_fall_care.domain.user.repository.UserRepository;
+import com.bumil.audio_fall_care.global.common.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 리코더 연결 상태 관리.
+ *
+ * - 하트비트: 마지막 신호 시각만 Redis에 기록한다. DB 쓰기는 DISCONNECTED → CONNECTED 전환 시에만 발생한다.
+ * - 스윕: timeout 동안 신호가 없는 리코더를 한 번의 UPDATE로 DISCONNECTED로 바꾸고 WARNING 알림을 만든다.
+ *
+ * 하트비트를 한 번도 보내지 않은 리코더는 추적 대상이 아니므로 상태가 바뀌지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecorderLivenessService {
+
+    private static final String DISCONNECT_TITLE = "리코더 연결 끊김";
+    private static final DateTimeFormatter LAST_SEEN_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final RecorderCache recorderCache;
+    private final RecorderLivenessTracker livenessTracker;
+    private final RecorderRepository recorderRepository;
+    private final RecorderStatusJdbcRepository recorderStatusJdbcRepository;
+    private final UserRepository userRepository;
+    private final AlertJdbcRepository alertJdbcRepository;
+    private final UnreadAlertCounter unreadAlertCounter;
+    private final PushOutboxService pushOutboxService;
+    private final AlertStreamPublisher alertStreamPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${recorder.liveness.timeout-seconds:90}")
+    private long timeoutSeconds;
+
+    /**
+     * 대부분의 하트비트는 DB에 쓰지 않으므로 트랜잭션(커넥션)을 잡지 않는다.
+     * DISCONNECTED → CONNECTED 전환 UPDATE만 짧은 트랜잭션으로 실행하고, 커밋 이후 캐시를 무효화한다.
+     *
+     * @return 존재하는 리코더 ID (존재하지 않는 ID는 기록하지 않는다)
+     */
+    public Set<Long> heartbeat(Collection<Long> recorderIds) {
+        Map<Long, RecorderSnapshot> recorders = recorderCache.getAll(new HashSet<>(recorderIds));
+        livenessTracker.touch(recorders.keySet());
+
+        List<Long> reconnected = recorders.values().stream()
+                .filter(recorder -> recorder.status() == RecorderStatus.DISCONNECTED)
+                .map(RecorderSnapshot::recorderId)
+                .toList();
+        if (!reconnected.isEmpty()) {
+            Integer updated = transactionTemplate.execute(status -> recorderRepository.updateStatusByIdIn(
+                    reconnected, RecorderStatus.DISCONNECTED, RecorderStatus.CONNECTED, LocalDateTime.now()));
+            reconnected.forEach(recorderCache::evict);
+            log.info("[Liveness] 리코더 연결 복구: recorderIds={}, updated={}", reconnected, updated);
+        }
+
+        return recorders.keySet();
+    }
+
+    /**
+     * 마지막 신호가 timeout보다 오래된 리코더를 최대 limit개 처리한다.
+     *
+     * 1. Redis에서 오래된 리코더 조회
+     * 2. CONNECTED인 것만 한 번의 UPDATE로 DISCONNECTED 전환 (실제로 바뀐 행만 반환)
+     * 3. 전환된 리코더마다 WARNING 알림 생성, 푸시 outbox 기록, 실시간 스트림 발행
+     * 4. 커밋 이후 처리한 멤버를 sorted set에서 제거 (그 사이 신호가 들어온 리코더는 남긴다)
+     *
+     * @return 상태가 바뀐 리코더 수
+     */
+    @Transactional
+    public int sweep(int limit) {
+        long nowMillis = livenessTracker.currentTimeMillis();
+        long cutoffMillis = nowMillis - timeoutSeconds * 1000;
+
+        Map<Long, Long> stale = livenessTracker.findStale(cutoffMillis, limit);
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RecorderSnapshot> disconnected = recorderStatusJdbcRepository.disconnect(stale.keySet(), now);
+        raiseDisconnectAlerts(disconnected, stale, now);
+        disconnected.forEach(recorder -> recorderCache.evict(recorder.recorderId()));
+        forgetAfterCommit(stale.keySet(), cutoffMillis);
+
+        if (!disconnected.isEmpty()) {
+            log.info("[Liveness] 리코더 연결 끊김 처리: stale={}, disconnected={}", stale.size(), disconnected.size());
+        }
+        return disconnected.size();
+    }
+
+    private void raiseDisconnectAlerts(List<RecorderSnapshot> recorders, Map<Long, Long> lastSeen, LocalDateTime now) {
+        if (recorders.isEmpty()) {
+            return;
+        }
+
+        List<Alert> alerts = recorders.stream()
+                .map(recorder -> Alert.builder()
+                        .user(userRepository.getReferenceById(recorder.userId()))
+                        .recorder(recorderRepository.getReferenceById(recorder.recorderId()))
+                        .type(AlertType.WARNING)
+                        .message(String.format(
+                                "[연결 끊김] %s의 신호가 %d초 이상 수신되지 않았습니다. (마지막 신호: %s)",
+                                recorder.deviceName(),
+                                timeoutSeconds,
+                                formatLastSeen(lastSeen.get(recorder.recorderId()))
+                        ))
+                        .build())
+                .toList();
+
+        List<Long> alertIds = alertJdbcRepository.batchInsert(alerts, now);
+        unreadAlertCounter.addAfterCommit(recorders.stream()
+                .collect(Collectors.groupingBy(RecorderSnapshot::userId, Collectors.counting())));
+
+        List<PushNotification> notifications = new ArrayList<>();
+        List<AlertStreamMessage> streamMessages = new ArrayList<>();
+        for (int i = 0; i < alerts.size(); i++) {
+            Alert alert = alerts.get(i);
+            Long userId = recorders.get(i).userId();
+            notifications.add(new PushNotification(userId, alertIds.get(i), DISCONNECT_TITLE, alert.getMessage()));
+            streamMessages.add(new AlertStreamMessage(userId, AlertResponse.of(alert, alertIds.get(i), now)));
+        }
+        pushOutboxService.enqueueAll(notifications);
+        alertStreamPublisher.publishAfterCommit(streamMessages);
+    }
+
+    private void forgetAfterCommit(Set<Long> recorderIds, long cutoffMillis) {
+        AfterCommit.run(() -> livenessTracker.forget(recorderIds, cutoffMillis));
+    }
+
+    private String formatLastSeen(Long lastSeenMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(lastSeenMillis), ZoneId.systemDefault())
+                .format(LAST_SEEN_FORMAT);
+    }
+}
@@ -0,0 +1,40 @@
+package com.bumil.audio_fall_care.domain.recorder.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 신호가 끊긴 리코더를 주기적으로 DISCONNECTED로 전환한다.
+ * 상태 전환 UPDATE가 CONNECTED 행만 바꾸므로 여러 인스턴스가 동시에 실행해도 알림은 한 번만 생성된다.
+ * 한 번에 batch-size개까지 처리하고 남은 리코더는 다음 주기에 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecorderLivenessSweeper {
+
+    private final RecorderLivenessService recorderLivenessService;
+
+    @Value("${recorder.liveness.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recorder.liveness.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${recorder.liveness.sweep-interval-ms:30000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            recorderLivenessService.sweep(batchSize);
+        } catch (DataAccessException e) {
+            log.warn("[Liveness] 스윕 실패 - 다음 주기에 재시도: error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.bumil.audio_fall_care.domain.recorder.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리코더 마지막 신호 시각을 Redis sorted set(멤버: 리코더 ID, 점수: 수신 시각 ms)으로 관리한다.
+ * 하트비트는 DB에 쓰지 않고 여기만 갱신하며, 오래된 멤버는 점수 범위 조회로 찾는다.
+ * 시각은 모두 Redis 서버 시계를 기준으로 한다.
+ */
+@Slf4j
+@Component
+public class RecorderLivenessTracker {
+
+    static final String KEY = "RECORDER:LAST_SEEN";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> heartbeatScript;
+    private final RedisScript<Long> removeIfStaleScript;
+
+    public RecorderLivenessTracker(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.heartbeatScript = RedisScript.of(new ClassPathResource("redis/recorder_heartbeat.lua"), Long.class);
+        this.removeIfStaleScript = RedisScript.of(new ClassPathResource("redis/zset_remove_if_stale.lua"), Long.class);
+    }
+
+    /**
+     * 실패해도 예외를 던지지 않는다. 이후 하트비트가 다시 기록한다.
+     */
+    public void touch(Collection<Long> recorderIds) {
+        if (recorderIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(heartbeatScript, List.of(KEY), toMembers(recorderIds).toArray());
+        } catch (DataAccessException e) {
+            log.warn("[Liveness] 하트비트 기록 실패: count={}, error={}", recorderIds.size(), e.getMessage());
+        }
+    }
+
+    public long currentTimeMillis() {
+        Long now = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        return now != null ? now : System.currentTimeMillis();
+    }
+
+    /**
+     * @return 마지막 신호가 cutoff 이전인 리코더 ID → 마지막 신호 시각(ms), 오래된 순
+     */
+    public Map<Long, Long> findStale(long cutoffMillis, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(KEY, 0, cutoffMillis, 0, limit);
+
+        Map<Long, Long> stale = new LinkedHashMap<>();
+        if (tuples == null) {
+            return stale;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                stale.put(Long.valueOf(tuple.getValue()), tuple.getScore().longValue());
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * 조회 이후 다시 신호가 들어온 리코더는 남기고, 여전히 cutoff 이전인 멤버만 삭제한다.
+     */
+    public void forget(Collection<Long> recorderIds, long cutoffMillis) {
+        if (recorderIds.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(cutoffMillis));
+        args.addAll(toMembers(recorderIds));
+        try {
+            redisTemplate.execute(removeIfStaleScript, List.of(KEY), args.toArray());
+        } catch (DataAccessException e) {
+            // 남은 멤버는 다음 스윕에서 다시 조회되지만 이미 DISCONNECTED라 갱신되지 않는다
+            log.warn("[Liveness] 스윕 멤버 정리 실패: count={}, error={}", recorderIds.size(), e.getMessage());
+        }
+    }
+
+    private List<String> toMembers(Collection<Long> recorderIds) {
+        return recorderIds.stream()
+                .map(String::valueOf)
+                .toList();
+    }
+}
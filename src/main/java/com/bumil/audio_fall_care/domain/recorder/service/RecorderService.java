@@ -1,6 +1,9 @@
 package com.bumil.audio_fall_care.domain.recorder.service;
 
+import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
 import com.bumil.audio_fall_care.domain.history.repository.FallHistoryRepository;
+import com.bumil.audio_fall_care.domain.history.service.FallDailyRollupService;
+import com.bumil.audio_fall_care.domain.history.service.FallHistoryStatsCache;
 import com.bumil.audio_fall_care.domain.recorder.dto.RecorderRegisterRequest;
 import com.bumil.audio_fall_care.domain.recorder.dto.RecorderResponse;
 import com.bumil.audio_fall_care.domain.recorder.dto.RecorderUpdateRequest;
@@ -28,6 +31,10 @@ public class RecorderService {
     private final RecorderRepository recorderRepository;
     private final UserRepository userRepository;
     private final FallHistoryRepository fallHistoryRepository;
+    private final FallDailyRollupService fallDailyRollupService;
+    private final FallHistoryStatsCache fallHistoryStatsCache;
+    private final AlertRepository alertRepository;
+    private final RecorderCache recorderCache;
 
     @Transactional
     public RecorderResponse registerRecorder(RecorderRegisterRequest request) {
@@ -47,9 +54,7 @@ public class RecorderService {
     }
 
     public List<RecorderResponse> getRecorders(Long userId) {
-        return recorderRepository.findByUserId(userId).stream()
-                .map(RecorderResponse::from)
-                .toList();
+        return recorderRepository.findResponsesByUserId(userId);
     }
 
     @Transactional
@@ -62,6 +67,7 @@ public class RecorderService {
         }
 
         recorder.updateDeviceName(request.deviceName());
+        recorderCache.evict(recorderId);
 
         return RecorderResponse.from(recorder);
     }
@@ -76,29 +82,26 @@ public class RecorderService {
         }
 
         fallHistoryRepository.deleteAllByRecorderId(recorderId);
+        fallDailyRollupService.deleteByRecorderId(recorderId);
+        alertRepository.detachRecorder(recorderId);
         recorderRepository.delete(recorder);
+        fallHistoryStatsCache.evict(userId);
+        recorderCache.evict(recorderId);
     }
 
+    /**
+     * 소유자 조건까지 한 번의 쿼리로 조회하고, 결과가 없을 때만 존재 여부를 다시 확인해 오류를 구분한다.
+     */
     public RecorderResponse getRecorderStatus(Long userId, Long recorderId) {
-        Recorder recorder = recorderRepository.findById(recorderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RECORDER_NOT_FOUND));
-
-        if (!recorder.getUser().getId().equals(userId)) {
-            throw new BusinessException(ErrorCode.RECORDER_NOT_OWNED);
-        }
-
-        return RecorderResponse.from(recorder);
+        return recorderRepository.findResponseByIdAndUserId(recorderId, userId)
+                .orElseThrow(() -> new BusinessException(recorderRepository.existsById(recorderId)
+                        ? ErrorCode.RECORDER_NOT_OWNED
+                        : ErrorCode.RECORDER_NOT_FOUND));
     }
 
     // New method to get the user associated with a recorder
     public RecorderUserResponse getRecorderUser(Long recorderId) {
-        Recorder recorder = recorderRepository.findById(recorderId)
+        return recorderRepository.findUserResponseById(recorderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RECORDER_NOT_FOUND));
-
-        User user = recorder.getUser();
-        return RecorderUserResponse.builder()
-                .userId(user.getId())
-                .username(user.getUsername())
-                .build();
     }
 }
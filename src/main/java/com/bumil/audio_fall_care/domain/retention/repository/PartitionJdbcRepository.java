@@ -0,0 +1,89 @@
+package com.bumil.audio_fall_care.domain.retention.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * PostgreSQL 파티션 관리 쿼리.
+ * 테이블/파티션 이름은 RetentionTable과 pYYYYMM 규칙으로만 만들어지므로 식별자를 직접 조합한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartitionJdbcRepository {
+
+    private static final String IS_PARTITIONED_SQL = """
+            SELECT EXISTS (
+                SELECT 1
+                FROM pg_partitioned_table pt
+                JOIN pg_class c ON c.oid = pt.partrelid
+                WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace
+            )
+            """;
+
+    private static final String ATTACHED_PARTITIONS_SQL = """
+            SELECT child.relname
+            FROM pg_inherits i
+            JOIN pg_class parent ON parent.oid = i.inhparent
+            JOIN pg_class child ON child.oid = i.inhrelid
+            WHERE parent.relname = ? AND parent.relnamespace = current_schema()::regnamespace
+            ORDER BY child.relname
+            """;
+
+    /**
+     * 분리만 되고 보관 처리되지 않은 이전 파티션 (직전 실행에서 내보내기가 실패한 경우)
+     */
+    private static final String DETACHED_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_class c
+            WHERE c.relkind = 'r'
+              AND NOT c.relispartition
+              AND c.relnamespace = current_schema()::regnamespace
+              AND c.relname ~ ?
+            ORDER BY c.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isPartitioned(String tableName) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, tableName));
+    }
+
+    public List<String> findAttachedPartitions(String tableName) {
+        return jdbcTemplate.queryForList(ATTACHED_PARTITIONS_SQL, String.class, tableName);
+    }
+
+    public List<String> findDetachedPartitions(String partitionPrefix) {
+        return jdbcTemplate.queryForList(DETACHED_PARTITIONS_SQL, String.class, "^" + partitionPrefix + "[0-9]{6}$");
+    }
+
+    public void createMonthlyPartition(String tableName, String partitionName, YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName, tableName, month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    public void detachPartition(String tableName, String partitionName) {
+        jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", tableName, partitionName));
+    }
+
+    public void dropTable(String tableName) {
+        jdbcTemplate.execute(String.format("DROP TABLE IF EXISTS %s", tableName));
+    }
+
+    /**
+     * 테이블 전체를 커서로 스트리밍 조회한다. PostgreSQL은 트랜잭션 안에서만 fetch size가 적용된다.
+     */
+    public void streamRows(String tableName, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement("SELECT * FROM " + tableName + " ORDER BY id");
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, handler);
+    }
+}
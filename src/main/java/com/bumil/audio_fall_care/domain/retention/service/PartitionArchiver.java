@@ -0,0 +1,112 @@
+package com.bumil.audio_fall_care.domain.retention.service;
+
+import com.bumil.audio_fall_care.domain.retention.repository.PartitionJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 분리된 파티션을 gzip 압축 CSV 파일로 내보낸다. ({archive-dir}/{테이블}/{파티션}.csv.gz)
+ * 임시 파일에 쓴 뒤 이름을 바꾸므로, 파일이 있으면 내보내기가 끝난 것이다.
+ */
+@Slf4j
+@Component
+public class PartitionArchiver {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final PartitionJdbcRepository partitionJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path archiveDir;
+
+    public PartitionArchiver(
+            PartitionJdbcRepository partitionJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${retention.archive.dir:./archive}") String archiveDir
+    ) {
+        this.partitionJdbcRepository = partitionJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.archiveDir = Path.of(archiveDir);
+    }
+
+    /**
+     * @return 내보낸 행 수
+     */
+    public long export(RetentionTable table, String partitionName) throws IOException {
+        Path directory = archiveDir.resolve(table.getTableName());
+        Files.createDirectories(directory);
+        Path target = directory.resolve(partitionName + ".csv.gz");
+        Path temp = directory.resolve(partitionName + ".csv.gz.part");
+
+        AtomicLong rows = new AtomicLong();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    partitionJdbcRepository.streamRows(partitionName, FETCH_SIZE, rs -> {
+                        try {
+                            ResultSetMetaData metaData = rs.getMetaData();
+                            if (rows.get() == 0) {
+                                writeHeader(writer, metaData);
+                            }
+                            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                                if (i > 1) {
+                                    writer.write(',');
+                                }
+                                writer.write(escape(rs.getString(i)));
+                            }
+                            writer.write('\n');
+                            rows.incrementAndGet();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e.getCause();
+        } catch (RuntimeException | IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("[Retention] 파티션 내보내기 완료: partition={}, rows={}, file={}", partitionName, rows.get(), target);
+        return rows.get();
+    }
+
+    private void writeHeader(Writer writer, ResultSetMetaData metaData) throws IOException, SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (i > 1) {
+                writer.write(',');
+            }
+            writer.write(metaData.getColumnName(i));
+        }
+        writer.write('\n');
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,187 @@
+package com.bumil.audio_fall_care.domain.retention.service;
+
+import com.bumil.audio_fall_care.domain.retention.repository.PartitionJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * fall_histories, alerts 월 파티션 유지보수.
+ *
+ * 1. 이번 달부터 premake-months 이후까지 파티션을 미리 생성
+ * 2. 보존 기간(retain-months)이 지난 파티션을 분리 (부모 테이블 조회에서 제외)
+ * 3. 분리한 파티션을 압축 CSV로 내보낸 뒤 삭제 (archive 설정에 따름)
+ *
+ * 통계는 fall_daily_rollups에서 집계하므로 이력을 보관 처리해도 롤업은 그대로 유지된다.
+ * 파티셔닝 전환(db/partitioning 스크립트) 이후에만 동작하며, 여러 인스턴스 중 하나만 실행되도록 Redis 락을 잡는다.
+ */
+@Slf4j
+@Service
+public class PartitionRetentionService {
+
+    private static final String LOCK_KEY = "RETENTION:LOCK";
+    private static final Duration LOCK_TTL = Duration.ofHours(2);
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final PartitionJdbcRepository partitionJdbcRepository;
+    private final PartitionArchiver partitionArchiver;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> compareAndDeleteScript;
+    private final boolean enabled;
+    private final int premakeMonths;
+    private final int fallHistoriesRetainMonths;
+    private final int alertsRetainMonths;
+    private final boolean archiveEnabled;
+    private final boolean dropAfterExport;
+
+    public PartitionRetentionService(
+            PartitionJdbcRepository partitionJdbcRepository,
+            PartitionArchiver partitionArchiver,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${retention.enabled:false}") boolean enabled,
+            @Value("${retention.premake-months:3}") int premakeMonths,
+            @Value("${retention.fall-histories.retain-months:12}") int fallHistoriesRetainMonths,
+            @Value("${retention.alerts.retain-months:6}") int alertsRetainMonths,
+            @Value("${retention.archive.enabled:true}") boolean archiveEnabled,
+            @Value("${retention.archive.drop-after-export:true}") boolean dropAfterExport
+    ) {
+        this.partitionJdbcRepository = partitionJdbcRepository;
+        this.partitionArchiver = partitionArchiver;
+        this.redisTemplate = redisTemplate;
+        this.compareAndDeleteScript = RedisScript.of(new ClassPathResource("redis/compare_and_delete.lua"), Long.class);
+        this.enabled = enabled;
+        this.premakeMonths = premakeMonths;
+        this.fallHistoriesRetainMonths = fallHistoriesRetainMonths;
+        this.alertsRetainMonths = alertsRetainMonths;
+        this.archiveEnabled = archiveEnabled;
+        this.dropAfterExport = dropAfterExport;
+    }
+
+    @Scheduled(cron = "${retention.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+                log.info("[Retention] 다른 인스턴스에서 실행 중 - 건너뜀");
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[Retention] 락 획득 실패 - 건너뜀: error={}", e.getMessage());
+            return;
+        }
+
+        try {
+            maintain(YearMonth.now());
+        } finally {
+            try {
+                redisTemplate.execute(compareAndDeleteScript, List.of(LOCK_KEY), token);
+            } catch (DataAccessException e) {
+                log.warn("[Retention] 락 해제 실패 (TTL로 만료): error={}", e.getMessage());
+            }
+        }
+    }
+
+    public void maintain(YearMonth currentMonth) {
+        for (RetentionTable table : RetentionTable.values()) {
+            try {
+                maintain(table, currentMonth);
+            } catch (DataAccessException e) {
+                log.error("[Retention] 파티션 유지보수 실패: table={}, error={}", table.getTableName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void maintain(RetentionTable table, YearMonth currentMonth) {
+        String tableName = table.getTableName();
+        if (!partitionJdbcRepository.isPartitioned(tableName)) {
+            log.warn("[Retention] 파티션 테이블이 아님 - 건너뜀 (db/partitioning 스크립트 실행 필요): table={}", tableName);
+            return;
+        }
+
+        // 1. 다가올 파티션 미리 생성
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            partitionJdbcRepository.createMonthlyPartition(tableName, partitionName(table, month), month);
+        }
+
+        YearMonth cutoff = currentMonth.minusMonths(retainMonths(table));
+
+        // 2. 이전 실행에서 분리만 되고 보관되지 않은 파티션 재처리
+        if (archiveEnabled) {
+            for (String partition : partitionJdbcRepository.findDetachedPartitions(table.partitionPrefix())) {
+                if (isExpired(table, partition, cutoff)) {
+                    archive(table, partition);
+                }
+            }
+        }
+
+        // 3. 보존 기간이 지난 파티션 분리 및 보관
+        for (String partition : partitionJdbcRepository.findAttachedPartitions(tableName)) {
+            if (!isExpired(table, partition, cutoff)) {
+                continue;
+            }
+
+            partitionJdbcRepository.detachPartition(tableName, partition);
+            log.info("[Retention] 파티션 분리: table={}, partition={}", tableName, partition);
+
+            if (archiveEnabled) {
+                archive(table, partition);
+            }
+        }
+    }
+
+    private void archive(RetentionTable table, String partition) {
+        try {
+            partitionArchiver.export(table, partition);
+            if (dropAfterExport) {
+                partitionJdbcRepository.dropTable(partition);
+                log.info("[Retention] 보관 완료 파티션 삭제: partition={}", partition);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 분리된 테이블은 그대로 두고 다음 실행에서 다시 내보낸다
+            log.error("[Retention] 파티션 보관 실패 - 분리된 테이블 유지: partition={}, error={}",
+                    partition, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * pYYYYMM 파티션 중 보존 기준 월 이전 것만 만료로 본다. default 파티션 등 규칙 밖의 이름은 건드리지 않는다.
+     */
+    private boolean isExpired(RetentionTable table, String partition, YearMonth cutoff) {
+        if (!partition.startsWith(table.partitionPrefix())) {
+            return false;
+        }
+
+        try {
+            YearMonth month = YearMonth.parse(partition.substring(table.partitionPrefix().length()), PARTITION_MONTH);
+            return month.isBefore(cutoff);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private int retainMonths(RetentionTable table) {
+        return table == RetentionTable.FALL_HISTORIES ? fallHistoriesRetainMonths : alertsRetainMonths;
+    }
+
+    private String partitionName(RetentionTable table, YearMonth month) {
+        return table.partitionPrefix() + month.format(PARTITION_MONTH);
+    }
+}
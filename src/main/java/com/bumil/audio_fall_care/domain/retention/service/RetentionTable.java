@@ -0,0 +1,21 @@
+package com.bumil.audio_fall_care.domain.retention.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 월 단위 range 파티셔닝 대상 테이블.
+ * 파티션 이름은 {테이블}_pYYYYMM 형식이다. (db/partitioning 스크립트 참고)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RetentionTable {
+    FALL_HISTORIES("fall_histories"),
+    ALERTS("alerts");
+
+    private final String tableName;
+
+    public String partitionPrefix() {
+        return tableName + "_p";
+    }
+}
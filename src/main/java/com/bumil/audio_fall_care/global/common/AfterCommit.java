@@ -0,0 +1,32 @@
+package com.bumil.audio_fall_care.global.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행할 작업 등록.
+ * 캐시 무효화나 Redis 발행을 커밋 전에 하면, 그 사이 다른 요청이 커밋 전 값을 읽어 다시 캐시하거나
+ * 롤백된 변경이 밖으로 알려질 수 있으므로 커밋이 끝난 뒤에 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션 동기화가 활성화되어 있으면 커밋 이후에 실행하고(롤백 시 실행하지 않음), 아니면 바로 실행한다.
+     */
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.bumil.audio_fall_care.global.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답.
+ * nextCursor를 다음 요청의 cursor 파라미터로 그대로 넘기면 이어서 조회된다.
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 size를 기본값과 최대값 범위로 보정한다.
+     */
+    public static int resolveSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * size + 1건을 조회한 결과로 페이지를 구성한다.
+     * 초과분이 있으면 마지막 항목을 기준으로 다음 커서를 만든다.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> fetched, int size, Function<T, KeysetCursor> cursorExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(content, nextCursor, hasNext);
+    }
+
+    public <R> CursorPageResponse<R> map(Function<T, R> mapper) {
+        return new CursorPageResponse<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -15,6 +15,10 @@ public enum ErrorCode {
     INVALID_API_KEY(HttpStatus.UNAUTHORIZED, "INVALID_API_KEY", "유효하지 않은 API 키입니다."),
     VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "요청 값이 유효하지 않습니다."),
     UNREADABLE_JSON(HttpStatus.BAD_REQUEST, "UNREADABLE_JSON", "요청 본문을 읽을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "유효하지 않은 페이지 커서입니다."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "INVALID_DATE_RANGE", "조회 기간이 올바르지 않습니다."),
+    INVALID_TREND_BUCKET(HttpStatus.BAD_REQUEST, "INVALID_TREND_BUCKET", "지원하지 않는 집계 단위입니다. (hour, day, week)"),
+    INVALID_ALERT_READ_REQUEST(HttpStatus.BAD_REQUEST, "INVALID_ALERT_READ_REQUEST", "읽음 처리할 알림 ID 목록 또는 전체 읽음(all) 중 하나를 지정하세요. before는 all=true일 때만 사용할 수 있습니다."),
 
     // 401
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "인증이 필요합니다."),
@@ -24,6 +28,7 @@ public enum ErrorCode {
     REFRESH_TOKEN_TYPE_INVALID(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_TYPE_INVALID", "리프레시 토큰 타입이 일치하지 않습니다."),
     REFRESH_TOKEN_MISMATCH(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_MISMATCH", "리프레시 토큰이 일치하지 않습니다."),
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_NOT_FOUND", "리프레시 토큰을 찾을 수 없습니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_REUSED", "이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요."),
     ACCESS_TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "ACCESS_TOKEN_INVALID", "유효하지 않은 액세스 토큰입니다."),
 
     // 403
@@ -42,10 +47,15 @@ public enum ErrorCode {
 
     // 409
     DUPLICATED_USERNAME(HttpStatus.CONFLICT, "DUPLICATED_USERNAME", "이미 가입된 아이디입니다."),
+    FALL_DETECTION_IN_PROGRESS(HttpStatus.CONFLICT, "FALL_DETECTION_IN_PROGRESS", "같은 낙상 감지 요청이 처리 중입니다."),
+
+    // 429
+    FALL_DETECTION_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "FALL_DETECTION_RATE_LIMITED", "리코더의 낙상 감지 요청 한도를 초과했습니다."),
 
     // 500
     FIREBASE_INITIALIZATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "FIREBASE_INIT_FAILED", "Firebase 초기화에 실패했습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "서버 오류가 발생했습니다."),
+    FCM_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "FCM_SEND_FAILED", "푸시 알림 전송에 실패했습니다."),
     REDIS_CONNECTION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "REDIS_CONNECTION_ERROR", "Redis 연결에 실패했습니다.");
 
     private final HttpStatus httpStatus;
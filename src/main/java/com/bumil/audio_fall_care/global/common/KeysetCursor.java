@@ -0,0 +1,31 @@
+package com.bumil.audio_fall_care.global.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (시각, id) 정렬 키를 클라이언트에 불투명한 문자열로 전달하기 위한 커서.
+ */
+public record KeysetCursor(LocalDateTime timestamp, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.bumil.audio_fall_care.global.config;
+
+import com.bumil.audio_fall_care.domain.history.dto.FallHistoryStatsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+@EnableCaching
+public class CacheConfig implements CachingConfigurer {
+
+    public static final String FALL_STATS = "fallStats";
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(
+            ObjectMapper objectMapper,
+            @Value("${cache.fall-stats.ttl-seconds:600}") long fallStatsTtlSeconds) {
+        return builder -> builder.withCacheConfiguration(FALL_STATS,
+                RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(Duration.ofSeconds(fallStatsTtlSeconds))
+                        .disableCachingNullValues()
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(objectMapper, FallHistoryStatsResponse.class))));
+    }
+
+    /**
+     * Redis 장애 시 캐시를 건너뛰고 DB 조회로 동작하도록 예외를 로그만 남기고 무시한다.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheErrorHandler() {
+            @Override
+            public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("[Cache] 조회 실패 - DB 조회로 대체: cache={}, key={}, error={}",
+                        cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+                log.warn("[Cache] 저장 실패: cache={}, key={}, error={}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("[Cache] 삭제 실패: cache={}, key={}, error={}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheClearError(RuntimeException exception, Cache cache) {
+                log.warn("[Cache] 전체 삭제 실패: cache={}, error={}", cache.getName(), exception.getMessage());
+            }
+        };
+    }
+}
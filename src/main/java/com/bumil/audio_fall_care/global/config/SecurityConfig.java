@@ -1,7 +1,10 @@
 package com.bumil.audio_fall_care.global.config;
 
 import com.bumil.audio_fall_care.global.security.InternalApiKeyFilter;
+import com.bumil.audio_fall_care.global.security.RouteClassifier;
+import com.bumil.audio_fall_care.global.security.RouteType;
 import com.bumil.audio_fall_care.global.security.jwt.JwtFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,6 +31,7 @@ public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
     private final InternalApiKeyFilter internalApiKeyFilter;
+    private final RouteClassifier routeClassifier;
     private final AuthenticationConfiguration authenticationConfiguration;
 
     @Bean
@@ -50,18 +54,10 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        // 인증 불필요 경로
-                        .requestMatchers("/api/internal/**").permitAll()
-                        .requestMatchers(
-                                "/api/auth/signup",
-                                "/api/auth/login",
-                                "/api/auth/refresh"
-                        ).permitAll()
-                        .requestMatchers("/api/code/verify").permitAll()
-                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/recorders").permitAll()
-                        .requestMatchers("/health").permitAll()
-                        // Swagger
-                        .requestMatchers("/swagger-ui/**", "/api-docs/**", "/v3/api-docs/**").permitAll()
+                        // SSE 등 비동기 요청의 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // 인증 불필요 경로 (security.whitelist, security.internal-routes)
+                        .requestMatchers(request -> routeClassifier.classify(request) != RouteType.AUTHENTICATED).permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -23,12 +23,12 @@ import java.io.IOException;
 public class InternalApiKeyFilter extends OncePerRequestFilter {
 
     private static final String API_KEY_HEADER = "X-API-Key";
-    private static final String INTERNAL_PATH_PREFIX = "/api/internal/";
 
     @Value("${internal.api-key:}")
     private String internalApiKey;
 
     private final ObjectMapper objectMapper;
+    private final RouteClassifier routeClassifier;
 
     @Override
     protected void doFilterInternal(
@@ -39,7 +39,7 @@ public class InternalApiKeyFilter extends OncePerRequestFilter {
 
         String uri = request.getRequestURI();
 
-        if (!uri.startsWith(INTERNAL_PATH_PREFIX)) {
+        if (routeClassifier.classify(request) != RouteType.INTERNAL) {
             filterChain.doFilter(request, response);
             return;
         }
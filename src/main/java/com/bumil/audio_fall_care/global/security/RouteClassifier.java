@@ -0,0 +1,131 @@
+package com.bumil.audio_fall_care.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 경로를 PUBLIC / INTERNAL / AUTHENTICATED로 분류한다.
+ * SecurityConfig, JwtFilter, InternalApiKeyFilter가 같은 분류를 사용하도록 하는 단일 기준이다.
+ *
+ * 기동 시 패턴을 경로 세그먼트 트라이로 컴파일하므로, 분류 비용은 패턴 개수와 무관하게 경로 깊이에 비례한다.
+ * 패턴 형식은 "[METHOD ]/path" 이며, 세그먼트로 리터럴, "*"(한 세그먼트), 마지막 "**"(나머지 전체)를 지원한다.
+ */
+@Component
+public class RouteClassifier {
+
+    private static final String ANY_METHOD = "*";
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String TAIL_WILDCARD = "**";
+
+    private final Node root = new Node();
+
+    public RouteClassifier(
+            @Value("${security.whitelist}") String[] publicRoutes,
+            @Value("${security.internal-routes:/api/internal/**}") String[] internalRoutes
+    ) {
+        Arrays.stream(publicRoutes).forEach(route -> register(route, RouteType.PUBLIC));
+        Arrays.stream(internalRoutes).forEach(route -> register(route, RouteType.INTERNAL));
+    }
+
+    public RouteType classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return classify(request.getMethod(), path);
+    }
+
+    public RouteType classify(String method, String path) {
+        RouteType type = match(root, tokenize(path), 0, method);
+        return type != null ? type : RouteType.AUTHENTICATED;
+    }
+
+    private void register(String route, RouteType type) {
+        String spec = route.trim();
+        if (spec.isEmpty()) {
+            return;
+        }
+
+        String method = ANY_METHOD;
+        String pattern = spec;
+        int space = spec.indexOf(' ');
+        if (space > 0) {
+            method = spec.substring(0, space).toUpperCase();
+            pattern = spec.substring(space + 1).trim();
+        }
+
+        String[] segments = tokenize(pattern);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (TAIL_WILDCARD.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**'는 패턴의 마지막에만 사용할 수 있습니다: " + route);
+                }
+                node = node.tailWildcard != null ? node.tailWildcard : (node.tailWildcard = new Node());
+            } else if (SINGLE_WILDCARD.equals(segment)) {
+                node = node.singleWildcard != null ? node.singleWildcard : (node.singleWildcard = new Node());
+            } else if (segment.contains("*") || segment.contains("{")) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다: " + route);
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+
+        RouteType previous = node.types.putIfAbsent(method, type);
+        if (previous != null && previous != type) {
+            throw new IllegalArgumentException("경로 패턴이 서로 다른 분류로 중복 등록되었습니다: " + route);
+        }
+    }
+
+    /**
+     * 리터럴 → "*" → "**" 순으로 더 구체적인 패턴을 먼저 시도한다.
+     */
+    private RouteType match(Node node, String[] segments, int index, String method) {
+        if (index == segments.length) {
+            RouteType type = node.resolve(method);
+            if (type != null) {
+                return type;
+            }
+            // "/a/**"는 "/a"도 포함한다.
+            return node.tailWildcard != null ? node.tailWildcard.resolve(method) : null;
+        }
+
+        Node literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            RouteType type = match(literal, segments, index + 1, method);
+            if (type != null) {
+                return type;
+            }
+        }
+
+        if (node.singleWildcard != null) {
+            RouteType type = match(node.singleWildcard, segments, index + 1, method);
+            if (type != null) {
+                return type;
+            }
+        }
+
+        return node.tailWildcard != null ? node.tailWildcard.resolve(method) : null;
+    }
+
+    private static String[] tokenize(String path) {
+        return Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, RouteType> types = new HashMap<>();
+        private Node singleWildcard;
+        private Node tailWildcard;
+
+        private RouteType resolve(String method) {
+            RouteType type = types.get(method);
+            return type != null ? type : types.get(ANY_METHOD);
+        }
+    }
+}
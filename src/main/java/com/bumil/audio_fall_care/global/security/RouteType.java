@@ -0,0 +1,10 @@
+package com.bumil.audio_fall_care.global.security;
+
+public enum RouteType {
+    /** 인증 없이 접근 가능 (security.whitelist) */
+    PUBLIC,
+    /** AI 서버 전용, API 키로 인증 (security.internal-routes) */
+    INTERNAL,
+    /** JWT 인증 필요 */
+    AUTHENTICATED
+}
@@ -0,0 +1,158 @@
+package com.bumil.audio_fall_care.global.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 만료 전에 폐기된 Access Token(jti) 목록.
+ *
+ * - Redis에 jti별 키(남은 유효 시간 TTL)와 동기화용 sorted set(score: 만료 시각)을 함께 기록한다.
+ * - 각 인스턴스는 폐기 목록을 로컬 Bloom filter로 들고 있어, 폐기되지 않은 토큰(대부분의 요청)은 Redis를 조회하지 않는다.
+ *   Bloom filter에 걸린 경우에만 Redis에서 실제 폐기 여부를 확인한다.
+ * - 폐기 즉시 Redis 채널로 다른 인스턴스에 알리고, 알림 유실은 주기적인 전체 동기화로 보정한다.
+ *   동기화 시 Bloom filter를 새로 만들어 교체하므로 만료된 jti는 이때 빠진다.
+ * - Bloom filter에 걸렸는데 Redis 확인이 실패하면 폐기된 것으로 본다.
+ * - 조회 결과는 jwt.revocation.checks{result=bloom_negative|revoked|false_positive}로 집계한다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList implements MessageListener {
+
+    static final String KEY_PREFIX = "JWT:REVOKED:";
+    static final String INDEX_KEY = "JWT:REVOKED";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisScript<Long> revokeScript;
+    private final String channel;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter bloomNegatives;
+    private final Counter revokedHits;
+    private final Counter falsePositives;
+
+    private volatile JtiBloomFilter filter;
+    // 동기화 중 새로 만드는 필터. 그 사이 도착한 폐기 알림도 반영한다.
+    private volatile JtiBloomFilter building;
+
+    public AccessTokenRevocationList(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${jwt.revocation.channel:jwt:revoked}") String channel
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.revokeScript = RedisScript.of(new ClassPathResource("redis/access_token_revoke.lua"), Long.class);
+        this.channel = channel;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new JtiBloomFilter(expectedInsertions, falsePositiveRate);
+        this.bloomNegatives = checkCounter(meterRegistry, "bloom_negative");
+        this.revokedHits = checkCounter(meterRegistry, "revoked");
+        this.falsePositives = checkCounter(meterRegistry, "false_positive");
+    }
+
+    @PostConstruct
+    void register() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        sync();
+    }
+
+    /**
+     * 토큰 만료 시각까지 폐기한다. 이미 만료된 토큰은 기록하지 않는다.
+     */
+    public void revoke(String jti, Date expiration) {
+        long expiresAt = expiration.getTime();
+        long remainingMillis = expiresAt - System.currentTimeMillis();
+        if (jti == null || remainingMillis <= 0) {
+            return;
+        }
+
+        add(jti);
+        redisTemplate.execute(revokeScript, List.of(KEY_PREFIX + jti, INDEX_KEY),
+                jti, String.valueOf(remainingMillis), String.valueOf(expiresAt), channel);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            bloomNegatives.increment();
+            return false;
+        }
+
+        boolean revoked;
+        try {
+            revoked = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+        } catch (DataAccessException e) {
+            log.warn("[TokenRevocation] Redis 조회 실패 - 폐기된 토큰으로 처리: jti={}, error={}", jti, e.getMessage());
+            revoked = true;
+        }
+
+        (revoked ? revokedHits : falsePositives).increment();
+        return revoked;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:60000}",
+            initialDelayString = "${jwt.revocation.sync-interval-ms:60000}")
+    public void sync() {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(INDEX_KEY);
+            long capacity = Math.max(expectedInsertions, size != null ? size * 2 : 0);
+
+            JtiBloomFilter next = new JtiBloomFilter(capacity, falsePositiveRate);
+            // 지정 이후 도착한 폐기 알림은 next에도 들어가므로, 아래 조회와 합치면 누락이 없다
+            building = next;
+
+            Set<String> revoked = redisTemplate.opsForZSet()
+                    .rangeByScore(INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (revoked != null) {
+                revoked.forEach(next::put);
+            }
+            filter = next;
+        } catch (DataAccessException e) {
+            log.warn("[TokenRevocation] 폐기 목록 동기화 실패 (기존 필터 유지): error={}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void add(String jti) {
+        filter.put(jti);
+        JtiBloomFilter next = building;
+        if (next != null) {
+            next.put(jti);
+        }
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.revocation.checks")
+                .description("Access Token 폐기 여부 확인 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bumil.audio_fall_care.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 Access Token의 Claims 캐시.
+ * 같은 토큰으로 반복 호출하는 폴링 클라이언트의 재검증을 건너뛴다.
+ *
+ * - 키는 토큰 원문 대신 SHA-256 해시를 사용한다.
+ * - 항목은 토큰 만료 시각(최대 maxTtl)에 만료되므로 만료된 토큰이 캐시로 통과하지 않는다.
+ * - maxSize가 0 이하이면 캐시를 사용하지 않는다.
+ */
+class JwtClaimsCache {
+
+    private final Cache<String, Claims> cache;
+
+    JwtClaimsCache(long maxSize, Duration maxTtl) {
+        if (maxSize <= 0) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return untilExpiration(claims, maxTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    Claims get(String token) {
+        if (cache == null) {
+            return null;
+        }
+        return cache.getIfPresent(hash(token));
+    }
+
+    void put(String token, Claims claims) {
+        if (cache == null) {
+            return;
+        }
+
+        Date expiration = claims.getExpiration();
+        if (expiration == null || !expiration.after(new Date())) {
+            return;
+        }
+        cache.put(hash(token), claims);
+    }
+
+    private static Duration untilExpiration(Claims claims, Duration maxTtl) {
+        Duration remaining = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.bumil.audio_fall_care.global.security.jwt;
 
 import com.bumil.audio_fall_care.global.security.CustomUserDetails;
+import com.bumil.audio_fall_care.global.security.RouteClassifier;
+import com.bumil.audio_fall_care.global.security.RouteType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -10,29 +12,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtFilter extends OncePerRequestFilter {
 
-    @Value("${security.whitelist}")
-    private String[] whiteList;
-    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
-
     private final JwtUtil jwtUtil;
+    private final RouteClassifier routeClassifier;
+    private final AccessTokenRevocationList revocationList;
 
 
     @Override
@@ -51,8 +48,8 @@ public class JwtFilter extends OncePerRequestFilter {
 
             String uri = request.getRequestURI();
 
-            // whitelist 통과
-            if (isWhiteListed(uri)) {
+            // whitelist, internal 경로 통과 (internal은 InternalApiKeyFilter가 인증)
+            if (routeClassifier.classify(request) != RouteType.AUTHENTICATED) {
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -74,7 +71,7 @@ public class JwtFilter extends OncePerRequestFilter {
 
             Claims claims;
             try {
-                claims = jwtUtil.parseToken(accessToken);
+                claims = jwtUtil.parseAccessToken(accessToken);
             } catch (ExpiredJwtException e) {
                 log.debug("Access Token 만료: {}", uri);
                 request.setAttribute("token.error", "expired_token");
@@ -89,13 +86,22 @@ public class JwtFilter extends OncePerRequestFilter {
                 return;
             }
 
-            if (!jwtUtil.isAccessToken(accessToken)) {
+            if (!jwtUtil.isAccessToken(claims)) {
                 log.debug("Access Token이 아닙니다. {}", uri);
                 SecurityContextHolder.clearContext();
                 filterChain.doFilter(request, response);
                 return;
             }
 
+            // 대부분의 토큰은 로컬 Bloom filter에서 걸러지므로 Redis를 조회하지 않는다
+            if (revocationList.isRevoked(claims.getId())) {
+                log.debug("폐기된 Access Token: {}", uri);
+                request.setAttribute("token.error", "revoked_token");
+                SecurityContextHolder.clearContext();
+                filterChain.doFilter(request, response);
+                return;
+            }
+
             setAuthenticationFromClaims(claims);
             log.debug("유효한 Access Token입니다. 요청한 URL: {}", uri);
             filterChain.doFilter(request, response);
@@ -107,16 +113,6 @@ public class JwtFilter extends OncePerRequestFilter {
         }
     }
 
-
-
-
-    private boolean isWhiteListed(String uri) {
-        return Arrays.stream(whiteList)
-                .anyMatch(
-                        pattern -> PATH_MATCHER.match(pattern, uri)
-                );
-    }
-
     private String extractAccessToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
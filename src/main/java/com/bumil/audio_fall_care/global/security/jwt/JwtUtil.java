@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 import java.util.UUID;
 
@@ -17,19 +18,29 @@ public class JwtUtil {
     private static final String CLAIM_UID = "uid";
     private static final String CLAIM_USERNAME = "username";
     private static final String CLAIM_TYPE = "token_type";
+    private static final String CLAIM_FAMILY = "family";
     private static final String TYPE_ACCESS = "access";
     private static final String TYPE_REFRESH = "refresh";
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final JwtClaimsCache claimsCache;
     private final long accessExp;
     private final long refreshExp;
 
     public JwtUtil(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-exp}") long accessExp,
-            @Value("${jwt.refresh-exp}") long refreshExp
+            @Value("${jwt.refresh-exp}") long refreshExp,
+            @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize,
+            @Value("${jwt.claims-cache.max-ttl-seconds:300}") long claimsCacheMaxTtlSeconds
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        // JwtParser는 불변이고 스레드 안전하므로 한 번만 만든다.
+        this.jwtParser = Jwts.parser()
+                .verifyWith(this.secretKey)
+                .build();
+        this.claimsCache = new JwtClaimsCache(claimsCacheMaxSize, Duration.ofSeconds(claimsCacheMaxTtlSeconds));
         this.accessExp = accessExp;
         this.refreshExp = refreshExp;
     }
@@ -52,7 +63,10 @@ public class JwtUtil {
                 .compact();
     }
 
-    public String createRefreshToken(Long userId) {
+    /**
+     * familyId: 로그인 시 발급되어 재발급을 거쳐도 유지되는 Refresh Token 패밀리 ID (재사용 감지에 사용)
+     */
+    public String createRefreshToken(Long userId, String familyId) {
         long now = System.currentTimeMillis();
         Date iat = new Date(now);
         Date exp = new Date(now + refreshExp);
@@ -64,17 +78,14 @@ public class JwtUtil {
                 .expiration(exp)
                 .claim(CLAIM_UID, userId)
                 .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .claim(CLAIM_FAMILY, familyId)
                 .signWith(secretKey)
                 .compact();
     }
 
     public Claims parseToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             log.warn("토큰이 만료되었습니다: {}", e.getMessage());
             throw new JwtException("토큰이 만료되었습니다.", e);
@@ -93,11 +104,38 @@ public class JwtUtil {
         }
     }
 
-    public Long getUserId(String refreshToken) {
-        Claims claims = parseToken(refreshToken);
+    /**
+     * 요청 인증용 Access Token 검증. 검증된 Claims는 토큰 만료 시각까지 캐시된다.
+     * JwtFilter가 만료와 위조를 구분할 수 있도록 ExpiredJwtException은 그대로 던진다.
+     * 토큰 타입은 반환된 Claims로 {@link #isAccessToken(Claims)}에서 확인한다.
+     */
+    public Claims parseAccessToken(String token) {
+        Claims cached = claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (IllegalArgumentException e) {
+            throw new JwtException("유효하지 않은 토큰입니다.", e);
+        }
+
+        if (isAccessToken(claims)) {
+            claimsCache.put(token, claims);
+        }
+        return claims;
+    }
+
+    public Long getUserId(Claims claims) {
         return claims.get(CLAIM_UID, Long.class);
     }
 
+    public String getFamilyId(Claims claims) {
+        return claims.get(CLAIM_FAMILY, String.class);
+    }
+
     public boolean isAccessToken(String token) {
         try {
             Claims claims = parseToken(token);
@@ -107,13 +145,12 @@ public class JwtUtil {
         }
     }
 
-    public boolean isRefreshToken(String token) {
-        try {
-            Claims claims = parseToken(token);
-            return TYPE_REFRESH.equals(claims.get(CLAIM_TYPE));
-        } catch (JwtException e) {
-            return false;
-        }
+    public boolean isAccessToken(Claims claims) {
+        return TYPE_ACCESS.equals(claims.get(CLAIM_TYPE));
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return TYPE_REFRESH.equals(claims.get(CLAIM_TYPE));
     }
 
     public long getRefreshExpMills() {
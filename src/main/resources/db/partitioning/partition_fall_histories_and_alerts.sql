@@ -0,0 +1,99 @@
+-- fall_histories(detected_at), alerts(created_at) 월 단위 range 파티셔닝 전환 (PostgreSQL 13+)
+-- 1회 수동 실행 스크립트. 애플리케이션을 중지하고 백업한 뒤 실행한다.
+-- 실행 후 retention.enabled=true로 파티션 유지보수 작업(PartitionRetentionService)을 켠다.
+--
+-- - 파티션 테이블의 PK는 파티션 키를 포함해야 하므로 (id, 파티션 키)로 바꾼다.
+-- - 파티션 테이블에는 IDENTITY 컬럼을 둘 수 없어(PG 17 미만) 시퀀스 기본값으로 ID를 발급한다.
+--   애플리케이션은 INSERT 후 생성 키를 읽으므로 변경 없이 동작한다.
+-- - 기존 테이블의 IDENTITY(또는 serial) 시퀀스가 {테이블}_id_seq 이름을 쓰고 있고 테이블 이름을 바꿔도 따라 바뀌지 않으므로,
+--   새 시퀀스를 만들기 전에 IDENTITY를 제거하고 serial 시퀀스는 _legacy 이름으로 바꾼다.
+-- - 과거 월부터 현재 + 3개월까지 파티션을 만들고, 범위를 벗어난 행은 default 파티션에 들어간다.
+
+BEGIN;
+
+-- =====================================================================
+-- fall_histories
+-- =====================================================================
+ALTER TABLE fall_histories RENAME TO fall_histories_legacy;
+ALTER TABLE fall_histories_legacy RENAME CONSTRAINT fall_histories_pkey TO fall_histories_legacy_pkey;
+ALTER INDEX IF EXISTS idx_fall_histories_user_detected_at_id RENAME TO idx_fall_histories_legacy_user_detected_at_id;
+ALTER TABLE fall_histories_legacy ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER SEQUENCE IF EXISTS fall_histories_id_seq RENAME TO fall_histories_legacy_id_seq;
+
+CREATE TABLE fall_histories (
+    LIKE fall_histories_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS
+) PARTITION BY RANGE (detected_at);
+
+CREATE SEQUENCE fall_histories_id_seq OWNED BY fall_histories.id;
+SELECT setval('fall_histories_id_seq', COALESCE((SELECT MAX(id) FROM fall_histories_legacy), 0) + 1, false);
+ALTER TABLE fall_histories ALTER COLUMN id SET DEFAULT nextval('fall_histories_id_seq');
+
+ALTER TABLE fall_histories ADD CONSTRAINT fall_histories_pkey PRIMARY KEY (id, detected_at);
+ALTER TABLE fall_histories ADD CONSTRAINT fk_fall_histories_recorder FOREIGN KEY (recorder_id) REFERENCES recorders (id);
+ALTER TABLE fall_histories ADD CONSTRAINT fk_fall_histories_user FOREIGN KEY (user_id) REFERENCES users (id);
+CREATE INDEX idx_fall_histories_user_detected_at_id ON fall_histories (user_id, detected_at DESC, id DESC);
+
+DO $$
+DECLARE
+    month_start date := date_trunc('month', COALESCE((SELECT MIN(detected_at) FROM fall_histories_legacy), now()))::date;
+    last_month  date := (date_trunc('month', now()) + interval '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF fall_histories FOR VALUES FROM (%L) TO (%L)',
+                       'fall_histories_p' || to_char(month_start, 'YYYYMM'),
+                       month_start, (month_start + interval '1 month')::date);
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+END $$;
+CREATE TABLE fall_histories_default PARTITION OF fall_histories DEFAULT;
+
+INSERT INTO fall_histories SELECT * FROM fall_histories_legacy;
+DROP TABLE fall_histories_legacy;
+
+-- =====================================================================
+-- alerts
+-- =====================================================================
+UPDATE alerts SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+
+ALTER TABLE alerts RENAME TO alerts_legacy;
+ALTER TABLE alerts_legacy RENAME CONSTRAINT alerts_pkey TO alerts_legacy_pkey;
+ALTER INDEX IF EXISTS idx_alerts_user_created_at_id RENAME TO idx_alerts_legacy_user_created_at_id;
+ALTER INDEX IF EXISTS idx_alerts_user_is_read_created_at_id RENAME TO idx_alerts_legacy_user_is_read_created_at_id;
+ALTER INDEX IF EXISTS idx_alerts_recorder_first_detected_at RENAME TO idx_alerts_legacy_recorder_first_detected_at;
+ALTER TABLE alerts_legacy ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER SEQUENCE IF EXISTS alerts_id_seq RENAME TO alerts_legacy_id_seq;
+
+CREATE TABLE alerts (
+    LIKE alerts_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS
+) PARTITION BY RANGE (created_at);
+
+CREATE SEQUENCE alerts_id_seq OWNED BY alerts.id;
+SELECT setval('alerts_id_seq', COALESCE((SELECT MAX(id) FROM alerts_legacy), 0) + 1, false);
+ALTER TABLE alerts ALTER COLUMN id SET DEFAULT nextval('alerts_id_seq');
+ALTER TABLE alerts ALTER COLUMN created_at SET NOT NULL;
+
+ALTER TABLE alerts ADD CONSTRAINT alerts_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE alerts ADD CONSTRAINT fk_alerts_user FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE alerts ADD CONSTRAINT fk_alerts_recorder FOREIGN KEY (recorder_id) REFERENCES recorders (id);
+CREATE INDEX idx_alerts_user_created_at_id ON alerts (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_alerts_user_is_read_created_at_id ON alerts (user_id, is_read, created_at DESC, id DESC);
+CREATE INDEX idx_alerts_recorder_first_detected_at ON alerts (recorder_id, first_detected_at DESC);
+
+DO $$
+DECLARE
+    month_start date := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM alerts_legacy), now()))::date;
+    last_month  date := (date_trunc('month', now()) + interval '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF alerts FOR VALUES FROM (%L) TO (%L)',
+                       'alerts_p' || to_char(month_start, 'YYYYMM'),
+                       month_start, (month_start + interval '1 month')::date);
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+END $$;
+CREATE TABLE alerts_default PARTITION OF alerts DEFAULT;
+
+INSERT INTO alerts SELECT * FROM alerts_legacy;
+DROP TABLE alerts_legacy;
+
+COMMIT;
@@ -0,0 +1,21 @@
+-- fall_daily_rollups 백필 (집계 테이블 도입 이전 낙상 이력 반영)
+-- 1회 수동 실행 스크립트. 집계 테이블을 만드는 버전을 배포한 뒤 실행한다. 애플리케이션을 중지하지 않아도 된다.
+--
+-- - 배포 이후 들어온 낙상은 이미 증분으로 집계되어 있으므로, 집계를 비우고 원본 이력 전체로 다시 만든다.
+--   (비어 있을 때만 채우는 방식은 배포 직후 한 건이라도 증분 갱신되면 백필이 영영 건너뛰어진다)
+-- - EXCLUSIVE 잠금으로 진행 중인 증분 갱신과 직렬화한다. 잠금 이전에 커밋된 이력은 재집계에 포함되고,
+--   잠금을 기다리는 트랜잭션의 이력은 커밋 전이라 재집계에서 빠진 뒤 잠금이 풀리면 증분으로 더해진다.
+-- - 여러 번 실행해도 결과가 같다. 실행 중에는 낙상 저장이 잠시 대기한다.
+
+BEGIN;
+
+LOCK TABLE fall_daily_rollups IN EXCLUSIVE MODE;
+
+DELETE FROM fall_daily_rollups;
+
+INSERT INTO fall_daily_rollups (user_id, recorder_id, day, sound_type, fall_count, confidence_sum, created_at, updated_at)
+SELECT user_id, recorder_id, CAST(detected_at AS date), sound_type, COUNT(*), SUM(confidence), now(), now()
+FROM fall_histories
+GROUP BY user_id, recorder_id, CAST(detected_at AS date), sound_type;
+
+COMMIT;
@@ -0,0 +1,17 @@
+-- Access Token 폐기 등록
+-- KEYS[1]: 폐기 토큰 키 (jti별)
+-- KEYS[2]: 폐기 목록 sorted set (score: 토큰 만료 시각 ms, 인스턴스 동기화용)
+-- ARGV[1]: jti
+-- ARGV[2]: 남은 유효 시간(ms)
+-- ARGV[3]: 토큰 만료 시각(ms)
+-- ARGV[4]: 폐기 알림 채널
+-- 만료된 항목은 sorted set에서 함께 정리한다. 만료 시각은 Redis 서버 시각 기준으로 비교한다.
+-- return: 1
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('SET', KEYS[1], '1', 'PX', ARGV[2])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+redis.call('PUBLISH', ARGV[4], ARGV[1])
+return 1
@@ -0,0 +1,8 @@
+-- 값이 기대값과 같을 때만 삭제
+-- KEYS[1]: 키
+-- ARGV[1]: 기대값
+-- return: 삭제한 키 개수
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,10 @@
+-- 사용자별 FCM 토큰 캐시 무효화
+-- KEYS[1]: 토큰 목록 캐시 키
+-- KEYS[2]: 무효화 세대 키
+-- ARGV[1]: 세대 키 TTL(ms)
+-- 세대를 올려 진행 중인 조회가 이전 목록을 다시 적재하지 못하게 한 뒤 캐시를 지운다.
+-- return: 새 세대
+local generation = redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], tonumber(ARGV[1]))
+redis.call('DEL', KEYS[1])
+return generation
@@ -0,0 +1,13 @@
+-- 사용자별 FCM 토큰 캐시 적재 (조회 도중 무효화되었으면 적재하지 않음)
+-- KEYS[1]: 토큰 목록 캐시 키
+-- KEYS[2]: 무효화 세대 키
+-- ARGV[1]: DB 조회 전에 읽은 세대 (세대 키가 없으면 '0')
+-- ARGV[2]: 토큰 목록 JSON
+-- ARGV[3]: TTL(ms)
+-- return: 적재했으면 1, 세대가 바뀌어 버렸으면 0
+local generation = redis.call('GET', KEYS[2]) or '0'
+if generation ~= ARGV[1] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', tonumber(ARGV[3]))
+return 1
@@ -0,0 +1,12 @@
+-- 리코더 마지막 신호 시각 기록
+-- KEYS[1]: 마지막 신호 sorted set
+-- ARGV[1..n]: 리코더 ID
+-- 여러 애플리케이션 노드의 시계 차이를 피하기 위해 Redis 서버 시각(ms)을 점수로 사용한다.
+-- return: 기록 시각(ms)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+for i = 1, #ARGV do
+    redis.call('ZADD', KEYS[1], now, ARGV[i])
+end
+return now
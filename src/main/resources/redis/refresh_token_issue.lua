@@ -0,0 +1,29 @@
+-- 로그인 시 기기의 Refresh Token 패밀리 발급 (같은 기기의 기존 패밀리는 교체)
+-- KEYS[1]: 사용자별 Refresh Token 해시 (필드: 기기, 값: 패밀리 상태 JSON)
+-- ARGV[1]: 기기 정보
+-- ARGV[2]: 패밀리 ID
+-- ARGV[3]: Refresh Token
+-- ARGV[4]: TTL(ms)
+-- 만료된 기기 필드는 함께 정리하고, 해시 TTL은 가장 늦게 만료되는 필드에 맞춘다.
+-- return: 발급 시각(ms)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local ttl = tonumber(ARGV[4])
+
+local entries = redis.call('HGETALL', KEYS[1])
+for i = 1, #entries, 2 do
+    local ok, state = pcall(cjson.decode, entries[i + 1])
+    if not ok or tonumber(state.expiresAt) <= now then
+        redis.call('HDEL', KEYS[1], entries[i])
+    end
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], cjson.encode({
+    family = ARGV[2],
+    token = ARGV[3],
+    createdAt = now,
+    refreshedAt = now,
+    expiresAt = now + ttl
+}))
+redis.call('PEXPIRE', KEYS[1], ttl)
+return now
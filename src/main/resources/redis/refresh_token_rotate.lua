@@ -0,0 +1,37 @@
+-- Refresh Token 교체 (compare-and-swap) 및 재사용 감지
+-- KEYS[1]: 사용자별 Refresh Token 해시
+-- ARGV[1]: 기기 정보
+-- ARGV[2]: 요청 토큰의 패밀리 ID
+-- ARGV[3]: 요청에 담긴 기존 토큰
+-- ARGV[4]: 새 토큰
+-- ARGV[5]: 새 토큰 TTL(ms)
+-- 같은 패밀리의 이전 토큰이 다시 제시되면 탈취로 보고 패밀리 전체를 폐기한다.
+-- return: 1 교체, 0 세션 없음(만료), -1 다른 패밀리(재로그인 등으로 교체됨), -2 재사용 감지(패밀리 폐기)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local raw = redis.call('HGET', KEYS[1], ARGV[1])
+if not raw then
+    return 0
+end
+
+local state = cjson.decode(raw)
+if tonumber(state.expiresAt) <= now then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return 0
+end
+if state.family ~= ARGV[2] then
+    return -1
+end
+if state.token ~= ARGV[3] then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return -2
+end
+
+local ttl = tonumber(ARGV[5])
+state.token = ARGV[4]
+state.refreshedAt = now
+state.expiresAt = now + ttl
+redis.call('HSET', KEYS[1], ARGV[1], cjson.encode(state))
+redis.call('PEXPIRE', KEYS[1], ttl)
+return 1
@@ -0,0 +1,32 @@
+-- 토큰 버킷 레이트 리미터
+-- KEYS[1]: 버킷 키
+-- ARGV[1]: 버킷 용량(1 이상), ARGV[2]: 초당 충전 토큰 수(0보다 큼, FallDetectionGuard 생성 시 검증)
+-- return: 1 허용, 0 거부
+local key = KEYS[1]
+local capacity = tonumber(ARGV[1])
+local refill_per_second = tonumber(ARGV[2])
+
+-- 여러 애플리케이션 노드의 시계 차이를 피하기 위해 Redis 서버 시각을 사용한다. (Redis 5+ effects replication)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+local elapsed = math.max(0, now - ts)
+tokens = math.min(capacity, tokens + elapsed * refill_per_second / 1000)
+
+local allowed = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+    allowed = 1
+end
+
+redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+redis.call('PEXPIRE', key, math.ceil(capacity / refill_per_second * 1000))
+return allowed
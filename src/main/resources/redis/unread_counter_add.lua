@@ -0,0 +1,16 @@
+-- 읽지 않은 알림 카운터 증감
+-- KEYS[1]: 카운터 키
+-- ARGV[1]: 증감량
+-- 키가 없으면 아무것도 하지 않는다 (다음 조회 시 DB 기준으로 적재).
+-- 음수가 되면 어긋난 값이므로 삭제한다.
+-- return: 증감 후 값, 키가 없거나 삭제했으면 -1
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+if value < 0 then
+    redis.call('DEL', KEYS[1])
+    return -1
+end
+return value
@@ -0,0 +1,14 @@
+-- 점수가 기준 이하인 멤버만 삭제
+-- KEYS[1]: sorted set 키
+-- ARGV[1]: 기준 점수, ARGV[2..n]: 멤버
+-- 조회 이후 새 점수로 갱신된 멤버는 남긴다.
+-- return: 삭제한 멤버 개수
+local cutoff = tonumber(ARGV[1])
+local removed = 0
+for i = 2, #ARGV do
+    local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+    if score and tonumber(score) <= cutoff then
+        removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+    end
+end
+return removed
@@ -0,0 +1,185 @@
+package com.bumil.audio_fall_care;
+
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertPageResponse;
+import com.bumil.audio_fall_care.domain.alert.entity.Alert;
+import com.bumil.audio_fall_care.domain.alert.entity.AlertType;
+import com.bumil.audio_fall_care.domain.alert.service.UnreadAlertCounter;
+import com.bumil.audio_fall_care.domain.alert.service.serviceImpl.AlertServiceImpl;
+import com.bumil.audio_fall_care.domain.history.dto.FallHistoryResponse;
+import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import com.bumil.audio_fall_care.domain.history.service.FallDailyRollupService;
+import com.bumil.audio_fall_care.domain.history.service.FallHistoryService;
+import com.bumil.audio_fall_care.domain.history.service.FallHistoryStatsCache;
+import com.bumil.audio_fall_care.domain.history.service.FallTrendService;
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderResponse;
+import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+import com.bumil.audio_fall_care.domain.recorder.service.RecorderCache;
+import com.bumil.audio_fall_care.domain.recorder.service.RecorderService;
+import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.CursorPageResponse;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.bumil.audio_fall_care.global.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 목록/상세 조회가 행 수와 관계없이 한 번의 SQL로 끝나는지 Hibernate 통계로 확인한다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaAuditingConfig.class, FallHistoryService.class, AlertServiceImpl.class, RecorderService.class})
+class ReadQueryStatementCountTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private FallHistoryService fallHistoryService;
+
+    @Autowired
+    private AlertServiceImpl alertService;
+
+    @Autowired
+    private RecorderService recorderService;
+
+    @MockitoBean
+    private FallHistoryStatsCache fallHistoryStatsCache;
+
+    @MockitoBean
+    private FallDailyRollupService fallDailyRollupService;
+
+    @MockitoBean
+    private FallTrendService fallTrendService;
+
+    @MockitoBean
+    private UnreadAlertCounter unreadAlertCounter;
+
+    @MockitoBean
+    private RecorderCache recorderCache;
+
+    private Statistics statistics;
+    private User user;
+    private Recorder livingRoom;
+    private FallHistory latestHistory;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().username("tester").password("password").build());
+        livingRoom = em.persist(Recorder.builder().user(user).deviceName("거실").status(RecorderStatus.CONNECTED).build());
+        Recorder bedroom = em.persist(Recorder.builder().user(user).deviceName("안방").status(RecorderStatus.CONNECTED).build());
+
+        LocalDateTime base = LocalDateTime.of(2025, 6, 15, 14, 0);
+        for (int i = 0; i < 5; i++) {
+            latestHistory = em.persist(FallHistory.builder()
+                    .user(user)
+                    .recorder(i % 2 == 0 ? livingRoom : bedroom)
+                    .confidence(0.9)
+                    .soundType("thud")
+                    .detectedAt(base.plusMinutes(i))
+                    .build());
+            em.persist(Alert.builder()
+                    .user(user)
+                    .recorder(i % 2 == 0 ? livingRoom : bedroom)
+                    .type(AlertType.FALL)
+                    .message("낙상 감지 " + i)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("낙상 이력 목록 - 리코더가 여러 개여도 SQL 1회")
+    void historiesInOneStatement() {
+        CursorPageResponse<FallHistoryResponse> page = fallHistoryService.getHistories(user.getId(), null, 20);
+
+        assertThat(page.content()).hasSize(5);
+        assertThat(page.content()).extracting(FallHistoryResponse::deviceName).contains("거실", "안방");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("낙상 이력 상세 - SQL 1회")
+    void historyInOneStatement() {
+        FallHistoryResponse history = fallHistoryService.getHistory(user.getId(), latestHistory.getId());
+
+        assertThat(history.deviceName()).isEqualTo("거실");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 낙상 이력 상세 - 존재 확인까지 SQL 2회")
+    void notOwnedHistoryInTwoStatements() {
+        assertThatThrownBy(() -> fallHistoryService.getHistory(user.getId() + 1, latestHistory.getId()))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.FALL_HISTORY_NOT_OWNED));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("알림 목록 - SQL 1회 (읽지 않은 개수는 카운터에서 조회)")
+    void alertsInOneStatement() {
+        AlertPageResponse page = alertService.findAlerts(user.getId(), null, 20, false);
+
+        assertThat(page.content()).hasSize(5);
+        assertThat(page.content().get(0).eventCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리코더 목록 - SQL 1회")
+    void recordersInOneStatement() {
+        List<RecorderResponse> recorders = recorderService.getRecorders(user.getId());
+
+        assertThat(recorders).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리코더 상태, 리코더 사용자 조회 - 각각 SQL 1회")
+    void recorderDetailsInOneStatementEach() {
+        RecorderResponse recorder = recorderService.getRecorderStatus(user.getId(), livingRoom.getId());
+
+        assertThat(recorder.status()).isEqualTo(RecorderStatus.CONNECTED);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        assertThat(recorderService.getRecorderUser(livingRoom.getId()).getUsername()).isEqualTo("tester");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -1,24 +1,39 @@
 package com.bumil.audio_fall_care.domain.alert.service;
 
+import com.bumil.audio_fall_care.domain.alert.dto.request.AlertReadRequest;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertPageResponse;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertReadResponse;
 import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
 import com.bumil.audio_fall_care.domain.alert.entity.Alert;
 import com.bumil.audio_fall_care.domain.alert.entity.AlertType;
 import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
 import com.bumil.audio_fall_care.domain.alert.service.serviceImpl.AlertServiceImpl;
 import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.bumil.audio_fall_care.global.common.KeysetCursor;
+import com.bumil.audio_fall_care.global.entity.BaseTimeEntity;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +45,9 @@ class AlertServiceTest {
     @Mock
     private AlertRepository alertRepository;
 
+    @Mock
+    private UnreadAlertCounter unreadAlertCounter;
+
     private void setId(Object entity, Long id) {
         try {
             Field idField = entity.getClass().getDeclaredField("id");
@@ -40,6 +58,16 @@ class AlertServiceTest {
         }
     }
 
+    private void setCreatedAt(Alert alert, LocalDateTime createdAt) {
+        try {
+            Field createdAtField = BaseTimeEntity.class.getDeclaredField("createdAt");
+            createdAtField.setAccessible(true);
+            createdAtField.set(alert, createdAt);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private User createUser(Long id) {
         User user = User.builder().username("testuser").password("password").build();
         setId(user, id);
@@ -58,38 +86,71 @@ class AlertServiceTest {
     }
 
     @Test
-    @DisplayName("사용자의 알림 목록 조회")
-    void findAllByUserId() {
+    @DisplayName("사용자의 알림 목록 조회 - 읽지 않은 개수 포함")
+    void findAlerts() {
         User user = createUser(1L);
-        List<Alert> alerts = List.of(
-                createAlert(1L, user, "낙상 감지 1", false),
-                createAlert(2L, user, "낙상 감지 2", true)
+        List<AlertResponse> alerts = List.of(
+                AlertResponse.from(createAlert(1L, user, "낙상 감지 1", false)),
+                AlertResponse.from(createAlert(2L, user, "낙상 감지 2", true))
         );
 
-        given(alertRepository.findByUserIdOrderByCreatedAtDesc(1L)).willReturn(alerts);
+        given(alertRepository.findFirstPageByUserId(1L, Limit.of(21))).willReturn(alerts);
+        given(unreadAlertCounter.get(1L)).willReturn(1L);
 
-        List<AlertResponse> result = alertService.findAllByUserId(1L);
+        AlertPageResponse result = alertService.findAlerts(1L, null, null, false);
 
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).message()).isEqualTo("낙상 감지 1");
-        assertThat(result.get(0).isRead()).isFalse();
-        assertThat(result.get(1).isRead()).isTrue();
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.content().get(0).message()).isEqualTo("낙상 감지 1");
+        assertThat(result.content().get(0).isRead()).isFalse();
+        assertThat(result.content().get(1).isRead()).isTrue();
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.unreadCount()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("빈 알림 목록 조회")
-    void findAllByUserIdEmpty() {
-        given(alertRepository.findByUserIdOrderByCreatedAtDesc(1L)).willReturn(List.of());
+    void findAlertsEmpty() {
+        given(alertRepository.findFirstPageByUserId(1L, Limit.of(21))).willReturn(List.of());
 
-        List<AlertResponse> result = alertService.findAllByUserId(1L);
+        AlertPageResponse result = alertService.findAlerts(1L, null, null, false);
 
-        assertThat(result).isEmpty();
+        assertThat(result.content()).isEmpty();
+        assertThat(result.unreadCount()).isZero();
     }
 
     @Test
-    @DisplayName("읽지 않은 알림 개수 조회")
+    @DisplayName("읽지 않은 알림만 커서 이후 페이지 조회 - 다음 페이지 커서 반환")
+    void findUnreadAlertsWithCursor() {
+        User user = createUser(1L);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        String cursor = new KeysetCursor(createdAt, 10L).encode();
+        List<Alert> alerts = List.of(
+                createAlert(9L, user, "낙상 감지 9", false),
+                createAlert(8L, user, "낙상 감지 8", false)
+        );
+        setCreatedAt(alerts.get(0), createdAt.minusMinutes(1));
+        setCreatedAt(alerts.get(1), createdAt.minusMinutes(2));
+
+        given(alertRepository.findUnreadPageByUserIdBefore(1L, createdAt, 10L, Limit.of(2)))
+                .willReturn(alerts.stream().map(AlertResponse::from).toList());
+        given(unreadAlertCounter.get(1L)).willReturn(5L);
+
+        AlertPageResponse result = alertService.findAlerts(1L, cursor, 1, true);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.content().get(0).id()).isEqualTo(9L);
+        assertThat(result.hasNext()).isTrue();
+        KeysetCursor nextCursor = KeysetCursor.decode(result.nextCursor());
+        assertThat(nextCursor.id()).isEqualTo(9L);
+        assertThat(nextCursor.timestamp()).isEqualTo(createdAt.minusMinutes(1));
+        assertThat(result.unreadCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 개수 조회 - Redis 카운터에서 조회")
     void countUnreadAlerts() {
-        given(alertRepository.countByUserIdAndIsReadFalse(1L)).willReturn(3L);
+        given(unreadAlertCounter.get(1L)).willReturn(3L);
 
         long count = alertService.countUnreadAlerts(1L);
 
@@ -97,25 +158,92 @@ class AlertServiceTest {
     }
 
     @Test
-    @DisplayName("알림 읽음 처리")
+    @DisplayName("알림 읽음 처리 - 상태가 바뀌면 읽지 않은 알림 카운터 감소")
     void markAsRead() {
-        User user = createUser(1L);
-        Alert alert = createAlert(10L, user, "낙상 감지", false);
-
-        given(alertRepository.findByIdAndUserId(10L, 1L)).willReturn(Optional.of(alert));
+        given(alertRepository.markAsReadIfUnread(eq(10L), eq(1L), any(LocalDateTime.class))).willReturn(1);
 
         alertService.markAsRead(10L, 1L);
 
-        assertThat(alert.getIsRead()).isTrue();
+        verify(unreadAlertCounter).addAfterCommit(1L, -1);
     }
 
     @Test
-    @DisplayName("존재하지 않는 알림 읽음 처리 - 예외 없이 무시")
+    @DisplayName("이미 읽었거나 존재하지 않는 알림 읽음 처리 - 예외 없이 무시, 카운터 유지")
     void markAsReadNotFound() {
-        given(alertRepository.findByIdAndUserId(999L, 1L)).willReturn(Optional.empty());
+        given(alertRepository.markAsReadIfUnread(eq(999L), eq(1L), any(LocalDateTime.class))).willReturn(0);
 
         alertService.markAsRead(999L, 1L);
 
-        // No exception thrown
+        verify(unreadAlertCounter, never()).addAfterCommit(anyLong(), anyLong());
+    }
+
+    @Nested
+    @DisplayName("알림 일괄 읽음 처리")
+    class MarkAllAsRead {
+
+        @Test
+        @DisplayName("ID 목록 - 중복을 제거해 UPDATE 한 번으로 처리하고 바뀐 개수만큼 카운터 감소")
+        void markByIds() {
+            given(alertRepository.markAsReadByIdIn(eq(1L), eq(Set.of(10L, 11L)), any(LocalDateTime.class))).willReturn(2);
+
+            AlertReadResponse response = alertService.markAllAsRead(1L,
+                    new AlertReadRequest(List.of(10L, 11L, 10L), false, null));
+
+            assertThat(response.updatedCount()).isEqualTo(2);
+            verify(unreadAlertCounter).addAfterCommit(1L, -2);
+        }
+
+        @Test
+        @DisplayName("전체 - 사용자의 읽지 않은 알림 전체를 처리")
+        void markAll() {
+            given(alertRepository.markAllAsRead(eq(1L), any(LocalDateTime.class))).willReturn(5);
+
+            AlertReadResponse response = alertService.markAllAsRead(1L, new AlertReadRequest(null, true, null));
+
+            assertThat(response.updatedCount()).isEqualTo(5);
+            verify(unreadAlertCounter).addAfterCommit(1L, -5);
+        }
+
+        @Test
+        @DisplayName("전체 + before - 해당 시각 이전 생성분만 처리")
+        void markAllBefore() {
+            LocalDateTime before = LocalDateTime.of(2025, 6, 15, 0, 0);
+            given(alertRepository.markAllAsReadBefore(eq(1L), eq(before), any(LocalDateTime.class))).willReturn(0);
+
+            AlertReadResponse response = alertService.markAllAsRead(1L, new AlertReadRequest(List.of(), true, before));
+
+            assertThat(response.updatedCount()).isZero();
+            verify(unreadAlertCounter, never()).addAfterCommit(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("ID 목록과 all을 모두 지정 - BusinessException(INVALID_ALERT_READ_REQUEST)")
+        void rejectsAmbiguousRequest() {
+            assertThatThrownBy(() -> alertService.markAllAsRead(1L, new AlertReadRequest(List.of(10L), true, null)))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_ALERT_READ_REQUEST));
+        }
+
+        @Test
+        @DisplayName("ID 목록과 before를 함께 지정 - before가 무시되지 않고 BusinessException(INVALID_ALERT_READ_REQUEST)")
+        void rejectsBeforeWithAlertIds() {
+            AlertReadRequest request = new AlertReadRequest(List.of(10L), false, LocalDateTime.of(2025, 6, 15, 0, 0));
+
+            assertThatThrownBy(() -> alertService.markAllAsRead(1L, request))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_ALERT_READ_REQUEST));
+            verify(alertRepository, never()).markAsReadByIdIn(anyLong(), any(), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("아무것도 지정하지 않음 - BusinessException(INVALID_ALERT_READ_REQUEST)")
+        void rejectsEmptyRequest() {
+            assertThatThrownBy(() -> alertService.markAllAsRead(1L, new AlertReadRequest(null, false, null)))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_ALERT_READ_REQUEST));
+        }
     }
 }
@@ -0,0 +1,77 @@
+package com.bumil.audio_fall_care.domain.alert.service;
+
+import com.bumil.audio_fall_care.domain.alert.dto.AlertStreamMessage;
+import com.bumil.audio_fall_care.domain.alert.dto.response.AlertResponse;
+import com.bumil.audio_fall_care.domain.alert.entity.AlertType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AlertStreamPublisherTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private AlertStreamService alertStreamService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private AlertStreamPublisher alertStreamPublisher;
+
+    private final AlertStreamMessage message = new AlertStreamMessage(1L, new AlertResponse(
+            200L, AlertType.FALL, "[낙상 감지] 거실 리코더에서 낙상이 감지되었습니다.", false, 1,
+            LocalDateTime.of(2025, 6, 15, 14, 30)));
+
+    @BeforeEach
+    void setUp() {
+        alertStreamPublisher = new AlertStreamPublisher(redisTemplate, objectMapper, alertStreamService, "alert:stream");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 Redis 채널로 발행")
+    void publishesToChannel() throws Exception {
+        alertStreamPublisher.publishAfterCommit(List.of(message));
+
+        verify(redisTemplate).convertAndSend("alert:stream", objectMapper.writeValueAsString(message));
+        verify(alertStreamService, never()).send(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("Redis 발행 실패 시 로컬 구독자에게 직접 전달")
+    void fallsBackToLocalDelivery() {
+        given(redisTemplate.convertAndSend(eq("alert:stream"), anyString()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        alertStreamPublisher.publishAfterCommit(List.of(message));
+
+        verify(alertStreamService).send(1L, message.alert());
+    }
+
+    @Test
+    @DisplayName("발행한 메시지는 구독 측에서 그대로 역직렬화된다")
+    void messageRoundTrips() throws Exception {
+        String json = objectMapper.writeValueAsString(message);
+
+        assertThat(objectMapper.readValue(json, AlertStreamMessage.class)).isEqualTo(message);
+    }
+}
@@ -0,0 +1,97 @@
+package com.bumil.audio_fall_care.domain.alert.service;
+
+import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadAlertCounterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private AlertRepository alertRepository;
+
+    private UnreadAlertCounter unreadAlertCounter;
+
+    @BeforeEach
+    void setUp() {
+        unreadAlertCounter = new UnreadAlertCounter(redisTemplate, alertRepository, 86400, 500);
+    }
+
+    @Test
+    @DisplayName("카운터가 있으면 DB를 조회하지 않는다")
+    void returnsCachedCount() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("ALERT:UNREAD:1")).willReturn("4");
+
+        assertThat(unreadAlertCounter.get(1L)).isEqualTo(4);
+        verify(alertRepository, never()).countByUserIdAndIsReadFalse(anyLong());
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 DB에서 세어 적재한다")
+    void loadsCountOnMiss() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("ALERT:UNREAD:1")).willReturn(null);
+        given(alertRepository.countByUserIdAndIsReadFalse(1L)).willReturn(7L);
+
+        assertThat(unreadAlertCounter.get(1L)).isEqualTo(7);
+        verify(valueOperations).setIfAbsent(eq("ALERT:UNREAD:1"), eq("7"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB COUNT로 응답한다")
+    void fallsBackToDatabase() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("ALERT:UNREAD:1"))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+        given(alertRepository.countByUserIdAndIsReadFalse(1L)).willReturn(2L);
+
+        assertThat(unreadAlertCounter.get(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 증감 스크립트를 실행한다")
+    @SuppressWarnings("unchecked")
+    void addsImmediatelyWithoutTransaction() {
+        unreadAlertCounter.addAfterCommit(1L, -1);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("ALERT:UNREAD:1")), eq("-1"));
+    }
+
+    @Test
+    @DisplayName("증감 반영 실패 시 카운터를 삭제해 다음 조회에서 다시 적재한다")
+    @SuppressWarnings("unchecked")
+    void evictsOnAddFailure() {
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("ALERT:UNREAD:1")), eq("1")))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        unreadAlertCounter.addAfterCommit(1L, 1);
+
+        verify(redisTemplate).delete("ALERT:UNREAD:1");
+    }
+}
@@ -0,0 +1,191 @@
+package com.bumil.audio_fall_care.domain.auth.service;
+
+import com.bumil.audio_fall_care.domain.auth.dto.response.TokenPair;
+import com.bumil.audio_fall_care.domain.auth.service.serviceImpl.AuthServiceImpl;
+import com.bumil.audio_fall_care.domain.fcm.service.FcmTokenService;
+import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.domain.user.service.UserService;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.bumil.audio_fall_care.global.security.jwt.AccessTokenRevocationList;
+import com.bumil.audio_fall_care.global.security.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.security.authentication.AuthenticationManager;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private FcmTokenService fcmTokenService;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Nested
+    @DisplayName("토큰 재발급")
+    class ReissueTokens {
+
+        @BeforeEach
+        void setUp() {
+            Claims claims = Jwts.claims().subject("1").build();
+            given(jwtUtil.parseToken("old-refresh")).willReturn(claims);
+            given(jwtUtil.isRefreshToken(claims)).willReturn(true);
+            given(jwtUtil.getUserId(claims)).willReturn(1L);
+            given(jwtUtil.getFamilyId(claims)).willReturn("family-1");
+            given(jwtUtil.createRefreshToken(1L, "family-1")).willReturn("new-refresh");
+        }
+
+        @Test
+        @DisplayName("성공 - 새 Access Token과 새 Refresh Token을 순서대로 반환한다")
+        void rotates() {
+            given(refreshTokenStore.rotate(1L, "chrome-mac", "family-1", "old-refresh", "new-refresh"))
+                    .willReturn(RefreshTokenStore.RotationResult.ROTATED);
+            given(userService.findById(1L)).willReturn(User.builder().username("tester").password("password").build());
+            given(jwtUtil.createAccessToken(1L, "tester")).willReturn("new-access");
+
+            TokenPair tokens = authService.reissueTokens("old-refresh", "chrome-mac");
+
+            assertThat(tokens.accessToken()).isEqualTo("new-access");
+            assertThat(tokens.refreshToken()).isEqualTo("new-refresh");
+            verify(jwtUtil).parseToken("old-refresh");
+        }
+
+        @Test
+        @DisplayName("저장된 토큰 없음 - REFRESH_TOKEN_EXPIRED")
+        void expired() {
+            given(refreshTokenStore.rotate(1L, "chrome-mac", "family-1", "old-refresh", "new-refresh"))
+                    .willReturn(RefreshTokenStore.RotationResult.EXPIRED);
+
+            assertThatThrownBy(() -> authService.reissueTokens("old-refresh", "chrome-mac"))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.REFRESH_TOKEN_EXPIRED));
+            verify(userService, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("재로그인으로 교체된 패밀리의 토큰 - REFRESH_TOKEN_MISMATCH")
+        void mismatch() {
+            given(refreshTokenStore.rotate(1L, "chrome-mac", "family-1", "old-refresh", "new-refresh"))
+                    .willReturn(RefreshTokenStore.RotationResult.MISMATCH);
+
+            assertThatThrownBy(() -> authService.reissueTokens("old-refresh", "chrome-mac"))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.REFRESH_TOKEN_MISMATCH));
+            verify(userService, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("같은 패밀리의 이전 토큰 재사용 - 패밀리를 폐기하고 REFRESH_TOKEN_REUSED")
+        void reused() {
+            given(refreshTokenStore.rotate(1L, "chrome-mac", "family-1", "old-refresh", "new-refresh"))
+                    .willReturn(RefreshTokenStore.RotationResult.REUSED);
+
+            assertThatThrownBy(() -> authService.reissueTokens("old-refresh", "chrome-mac"))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.REFRESH_TOKEN_REUSED));
+            verify(userService, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Redis 장애 - REDIS_CONNECTION_ERROR")
+        void redisFailure() {
+            given(refreshTokenStore.rotate(1L, "chrome-mac", "family-1", "old-refresh", "new-refresh"))
+                    .willThrow(new RedisConnectionFailureException("connection refused"));
+
+            assertThatThrownBy(() -> authService.reissueTokens("old-refresh", "chrome-mac"))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.REDIS_CONNECTION_ERROR));
+            verify(userService, never()).findById(any());
+        }
+    }
+
+    @Test
+    @DisplayName("서명이 유효하지 않거나 만료된 토큰 - REFRESH_TOKEN_INVALID")
+    void invalidToken() {
+        given(jwtUtil.parseToken("forged-refresh")).willThrow(new JwtException("유효하지 않은 토큰 서명입니다."));
+
+        assertThatThrownBy(() -> authService.reissueTokens("forged-refresh", "chrome-mac"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID));
+        verify(refreshTokenStore, never()).rotate(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("패밀리 정보가 없는 이전 형식의 토큰 - REFRESH_TOKEN_INVALID")
+    void legacyTokenWithoutFamily() {
+        Claims claims = Jwts.claims().subject("1").build();
+        given(jwtUtil.parseToken("legacy-refresh")).willReturn(claims);
+        given(jwtUtil.isRefreshToken(claims)).willReturn(true);
+        given(jwtUtil.getUserId(claims)).willReturn(1L);
+        given(jwtUtil.getFamilyId(claims)).willReturn(null);
+
+        assertThatThrownBy(() -> authService.reissueTokens("legacy-refresh", "chrome-mac"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID));
+        verify(refreshTokenStore, never()).rotate(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 기기의 Refresh Token을 삭제하고 사용 중인 Access Token을 만료 시각까지 폐기한다")
+    void logoutRevokesAccessToken() {
+        Date expiration = new Date(System.currentTimeMillis() + 600_000L);
+        Claims claims = Jwts.claims().id("jti-1").expiration(expiration).build();
+        given(jwtUtil.parseAccessToken("access")).willReturn(claims);
+
+        authService.logout(1L, "chrome-mac", "access");
+
+        verify(refreshTokenStore).revoke(1L, "chrome-mac");
+        verify(accessTokenRevocationList).revoke("jti-1", expiration);
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 - 모든 기기의 FCM 토큰과 Refresh Token 패밀리를 삭제한다")
+    void logoutAll() {
+        authService.logoutAll(1L, null);
+
+        verify(fcmTokenService).deleteAllTokens(1L);
+        verify(refreshTokenStore).revokeAll(1L);
+        verify(accessTokenRevocationList, never()).revoke(any(), any());
+    }
+}
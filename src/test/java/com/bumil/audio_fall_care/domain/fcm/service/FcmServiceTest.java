@@ -0,0 +1,225 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenSnapshot;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FcmServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @InjectMocks
+    private FcmService fcmService;
+
+    @Mock
+    private FcmTokenServiceInterface fcmTokenService;
+
+    @Mock
+    private FirebaseMessaging firebaseMessaging;
+
+    private List<FcmTokenSnapshot> tokens(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new FcmTokenSnapshot(id, "token-" + id))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> tokensOf(MulticastMessage message) {
+        return (List<String>) ReflectionTestUtils.getField(message, "tokens");
+    }
+
+    private SendResponse success() {
+        SendResponse response = mock(SendResponse.class);
+        lenient().when(response.isSuccessful()).thenReturn(true);
+        return response;
+    }
+
+    private SendResponse failure(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        lenient().when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        lenient().when(response.isSuccessful()).thenReturn(false);
+        lenient().when(response.getException()).thenReturn(exception);
+        return response;
+    }
+
+    private BatchResponse batch(SendResponse... responses) {
+        int successCount = (int) Arrays.stream(responses).filter(SendResponse::isSuccessful).count();
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        lenient().when(batchResponse.getResponses()).thenReturn(List.of(responses));
+        lenient().when(batchResponse.getSuccessCount()).thenReturn(successCount);
+        lenient().when(batchResponse.getFailureCount()).thenReturn(responses.length - successCount);
+        return batchResponse;
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 Firebase를 호출하지 않는다")
+    void noTokensSkipsFirebase() throws Exception {
+        given(fcmTokenService.findAllByUserId(USER_ID)).willReturn(List.of());
+
+        fcmService.sendToUser(USER_ID, "낙상 감지", "거실에서 낙상이 감지되었습니다.");
+
+        verify(firebaseMessaging, never()).sendEachForMulticast(any());
+        verify(fcmTokenService, never()).deleteTokens(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("500개 단위로 나눠 multicast 요청을 보낸다")
+    void chunksByFiveHundredTokens() throws Exception {
+        given(fcmTokenService.findAllByUserId(USER_ID)).willReturn(tokens(1201));
+        given(firebaseMessaging.sendEachForMulticast(any())).willAnswer(invocation -> batch(
+                tokensOf(invocation.getArgument(0)).stream().map(token -> success()).toArray(SendResponse[]::new)));
+
+        fcmService.sendToUser(USER_ID, "낙상 감지", "거실에서 낙상이 감지되었습니다.");
+
+        ArgumentCaptor<MulticastMessage> captor = ArgumentCaptor.forClass(MulticastMessage.class);
+        verify(firebaseMessaging, times(3)).sendEachForMulticast(captor.capture());
+        assertThat(captor.getAllValues()).extracting(message -> tokensOf(message).size())
+                .containsExactly(500, 500, 201);
+        assertThat(tokensOf(captor.getAllValues().get(1)).get(0)).isEqualTo("token-501");
+    }
+
+    @Nested
+    @DisplayName("무효 토큰 정리")
+    class InvalidTokens {
+
+        @Test
+        @DisplayName("UNREGISTERED/INVALID_ARGUMENT 응답의 토큰만 한 번에 삭제한다")
+        void deletesOnlyInvalidTokens() throws Exception {
+            given(fcmTokenService.findAllByUserId(USER_ID)).willReturn(tokens(4));
+            BatchResponse response = batch(
+                    success(),
+                    failure(MessagingErrorCode.UNREGISTERED),
+                    failure(MessagingErrorCode.INVALID_ARGUMENT),
+                    failure(MessagingErrorCode.UNAVAILABLE));
+            given(firebaseMessaging.sendEachForMulticast(any())).willReturn(response);
+
+            fcmService.sendToUser(USER_ID, "낙상 감지", "거실에서 낙상이 감지되었습니다.");
+
+            verify(fcmTokenService, times(1)).deleteTokens(USER_ID, List.of(2L, 3L));
+        }
+
+        @Test
+        @DisplayName("여러 요청에 걸친 무효 토큰도 한 번의 삭제로 모은다")
+        void collectsInvalidTokensAcrossChunks() throws Exception {
+            given(fcmTokenService.findAllByUserId(USER_ID)).willReturn(tokens(501));
+            given(firebaseMessaging.sendEachForMulticast(any())).willAnswer(invocation -> {
+                int size = tokensOf(invocation.getArgument(0)).size();
+                SendResponse[] responses = new SendResponse[size];
+                responses[0] = failure(MessagingErrorCode.UNREGISTERED);
+                for (int i = 1; i < size; i++) {
+                    responses[i] = success();
+                }
+                return batch(responses);
+            });
+
+            fcmService.sendToUser(USER_ID, "낙상 감지", "거실에서 낙상이 감지되었습니다.");
+
+            verify(fcmTokenService, times(1)).deleteTokens(USER_ID, List.of(1L, 501L));
+        }
+
+        @Test
+        @DisplayName("일시적 오류만 있으면 토큰을 삭제하지 않는다")
+        void keepsTokensOnTransientErrors() throws Exception {
+            given(fcmTokenService.findAllByUserId(USER_ID)).willReturn(tokens(2));
+            BatchResponse response = batch(
+                    success(), failure(MessagingErrorCode.INTERNAL));
+            given(firebaseMessaging.sendEachForMulticast(any())).willReturn(response);
+
+            fcmService.sendToUser(USER_ID, "낙상 감지", "거실에서 낙상이 감지되었습니다.");
+
+            verify(fcmTokenService, never()).deleteTokens(anyLong(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도 신호")
+    class RetrySignal {
+
+        @Test
+        @DisplayName("성공이 없고 일시적 오류가 있으면 FCM_SEND_FAILED")
+        void failsWhenNothingDeliveredAndRetryable() throws Exception {
+            given(fcmTokenService.findAllByUserId(USER_ID)).willReturn(tokens(2));
+            BatchResponse response = batch(
+                    failure(MessagingErrorCode.UNREGISTERED), failure(MessagingErrorCode.UNAVAILABLE));
+            given(firebaseMessaging.sendEachForMulticast(any())).willReturn(response);
+
+            assertThatThrownBy(() -> fcmService.sendToUser(USER_ID, "낙상 감지", "거실에서 낙상이 감지되었습니다."))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.FCM_SEND_FAILED));
+            verify(fcmTokenService).deleteTokens(USER_ID, List.of(1L));
+        }
+
+        @Test
+        @DisplayName("요청 자체가 실패해도 재시도 대상으로 FCM_SEND_FAILED")
+        void failsWhenRequestThrows() throws Exception {
+            given(fcmTokenService.findAllByUserId(USER_ID)).willReturn(tokens(1));
+            FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+            given(firebaseMessaging.sendEachForMulticast(any())).willThrow(exception);
+
+            assertThatThrownBy(() -> fcmService.sendToUser(USER_ID, "낙상 감지", "거실에서 낙상이 감지되었습니다."))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.FCM_SEND_FAILED));
+        }
+
+        @Test
+        @DisplayName("한 기기라도 성공하면 일시적 오류가 있어도 예외를 던지지 않는다")
+        void succeedsWhenAnyDelivered() throws Exception {
+            given(fcmTokenService.findAllByUserId(USER_ID)).willReturn(tokens(2));
+            BatchResponse response = batch(
+                    success(), failure(MessagingErrorCode.UNAVAILABLE));
+            given(firebaseMessaging.sendEachForMulticast(any())).willReturn(response);
+
+            assertThatCode(() -> fcmService.sendToUser(USER_ID, "낙상 감지", "거실에서 낙상이 감지되었습니다."))
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("무효 토큰만 실패했다면 재시도해도 소용없으므로 예외를 던지지 않는다")
+        void doesNotRetryWhenOnlyInvalidTokens() throws Exception {
+            given(fcmTokenService.findAllByUserId(USER_ID)).willReturn(tokens(2));
+            BatchResponse response = batch(
+                    failure(MessagingErrorCode.UNREGISTERED), failure(MessagingErrorCode.INVALID_ARGUMENT));
+            given(firebaseMessaging.sendEachForMulticast(any())).willReturn(response);
+
+            assertThatCode(() -> fcmService.sendToUser(USER_ID, "낙상 감지", "거실에서 낙상이 감지되었습니다."))
+                    .doesNotThrowAnyException();
+            verify(fcmTokenService).deleteTokens(USER_ID, List.of(1L, 2L));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenSnapshot;
+import com.bumil.audio_fall_care.domain.fcm.repository.FcmTokenRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FcmTokenCacheTest {
+
+    @Mock
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> redis = new HashMap<>();
+    private SimpleMeterRegistry meterRegistry;
+    private FcmTokenCache fcmTokenCache;
+
+    /**
+     * 적재/무효화 스크립트를 메모리 맵으로 흉내 낸다. (세대 비교 후 SET, INCR 후 DEL)
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fcmTokenCache = new FcmTokenCache(fcmTokenRepository, redisTemplate, listenerContainer, objectMapper,
+                meterRegistry, 100, 60, 3600, "fcm:tokens:invalidate");
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    if (!redis.getOrDefault(keys.get(1), "0").equals(invocation.getArgument(2))) {
+                        return 0L;
+                    }
+                    redis.put(keys.get(0), invocation.getArgument(3));
+                    return 1L;
+                });
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+                .thenAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    long generation = Long.parseLong(redis.getOrDefault(keys.get(1), "0")) + 1;
+                    redis.put(keys.get(1), String.valueOf(generation));
+                    redis.remove(keys.get(0));
+                    return generation;
+                });
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("fcm.token.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("캐시 미스 - DB에서 조회해 Redis에 적재하고, 이후 조회는 로컬 캐시에서 응답한다")
+    void loadsOnMissThenServesLocally() throws Exception {
+        List<FcmTokenSnapshot> tokens = List.of(new FcmTokenSnapshot(1L, "token-a"));
+        given(fcmTokenRepository.findSnapshotsByUserId(1L)).willReturn(tokens);
+
+        assertThat(fcmTokenCache.get(1L)).isEqualTo(tokens);
+        assertThat(fcmTokenCache.get(1L)).isEqualTo(tokens);
+
+        verify(fcmTokenRepository, times(1)).findSnapshotsByUserId(1L);
+        assertThat(redis).containsEntry("FCM:TOKENS:1", objectMapper.writeValueAsString(tokens));
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("local_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis에 있으면 DB를 조회하지 않는다")
+    void servesFromRedis() throws Exception {
+        List<FcmTokenSnapshot> tokens = List.of(new FcmTokenSnapshot(1L, "token-a"), new FcmTokenSnapshot(2L, "token-b"));
+        redis.put("FCM:TOKENS:1", objectMapper.writeValueAsString(tokens));
+
+        assertThat(fcmTokenCache.get(1L)).isEqualTo(tokens);
+
+        verify(fcmTokenRepository, never()).findSnapshotsByUserId(anyLong());
+        assertThat(count("redis_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 사용자도 빈 목록으로 캐시한다")
+    void cachesEmptyList() {
+        given(fcmTokenRepository.findSnapshotsByUserId(1L)).willReturn(List.of());
+
+        assertThat(fcmTokenCache.get(1L)).isEmpty();
+        assertThat(fcmTokenCache.get(1L)).isEmpty();
+
+        verify(fcmTokenRepository, times(1)).findSnapshotsByUserId(1L);
+        assertThat(redis).containsEntry("FCM:TOKENS:1", "[]");
+    }
+
+    @Test
+    @DisplayName("무효화 - 로컬 캐시와 Redis 키를 지우고 다른 인스턴스에 알린다")
+    void evictsEverywhere() {
+        given(fcmTokenRepository.findSnapshotsByUserId(1L))
+                .willReturn(List.of(new FcmTokenSnapshot(1L, "old")))
+                .willReturn(List.of(new FcmTokenSnapshot(1L, "new")));
+        fcmTokenCache.get(1L);
+
+        fcmTokenCache.evict(1L);
+
+        assertThat(redis).doesNotContainKey("FCM:TOKENS:1").containsEntry("FCM:TOKENS:GEN:1", "1");
+        verify(redisTemplate).convertAndSend("fcm:tokens:invalidate", "1");
+        assertThat(fcmTokenCache.get(1L)).containsExactly(new FcmTokenSnapshot(1L, "new"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB로 조회한다")
+    void fallsBackToDatabase() {
+        given(valueOperations.get("FCM:TOKENS:1")).willThrow(new RedisConnectionFailureException("connection refused"));
+        given(fcmTokenRepository.findSnapshotsByUserId(1L)).willReturn(List.of(new FcmTokenSnapshot(1L, "token-a")));
+
+        assertThat(fcmTokenCache.get(1L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("조회가 커밋 전 목록을 읽는 사이 무효화되면 이전 목록을 Redis와 로컬 캐시에 다시 적재하지 않는다")
+    void staleFillAfterEvictIsDiscarded() throws Exception {
+        List<FcmTokenSnapshot> before = List.of(new FcmTokenSnapshot(1L, "old-device"));
+        List<FcmTokenSnapshot> after = List.of(new FcmTokenSnapshot(1L, "old-device"), new FcmTokenSnapshot(2L, "new-device"));
+        AtomicInteger reads = new AtomicInteger();
+        // 첫 조회의 DB 읽기는 로그인 upsert 커밋 전에 끝나고, 반환되기 전에 커밋 이후 무효화가 실행된다.
+        given(fcmTokenRepository.findSnapshotsByUserId(1L)).willAnswer(invocation -> {
+            if (reads.getAndIncrement() == 0) {
+                fcmTokenCache.evict(1L);
+                return before;
+            }
+            return after;
+        });
+
+        assertThat(fcmTokenCache.get(1L)).isEqualTo(before);
+        assertThat(redis).doesNotContainKey("FCM:TOKENS:1");
+
+        assertThat(fcmTokenCache.get(1L)).isEqualTo(after);
+        assertThat(redis).containsEntry("FCM:TOKENS:1", objectMapper.writeValueAsString(after));
+        verify(fcmTokenRepository, times(2)).findSnapshotsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("세대 조회가 실패하면 Redis에는 적재하지 않고 DB 결과를 돌려준다")
+    void skipsRedisWriteWhenGenerationUnavailable() {
+        given(valueOperations.get("FCM:TOKENS:1")).willReturn(null);
+        given(valueOperations.get("FCM:TOKENS:GEN:1")).willThrow(new RedisConnectionFailureException("connection refused"));
+        given(fcmTokenRepository.findSnapshotsByUserId(1L)).willReturn(List.of(new FcmTokenSnapshot(1L, "token-a")));
+
+        assertThat(fcmTokenCache.get(1L)).hasSize(1);
+        assertThat(redis).isEmpty();
+    }
+}
@@ -0,0 +1,140 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.dto.FcmTokenRequest;
+import com.bumil.audio_fall_care.domain.fcm.entity.FcmToken;
+import com.bumil.audio_fall_care.domain.fcm.repository.FcmTokenRepository;
+import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.domain.user.repository.UserRepository;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.bumil.audio_fall_care.global.config.JpaAuditingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 기기의 동시 토큰 등록이 uk_user_device 충돌 없이 한 행으로 수렴하는지 실제 PostgreSQL에서 확인한다.
+ * 각 스레드가 자기 트랜잭션을 커밋해야 하므로 테스트 트랜잭션은 사용하지 않는다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaAuditingConfig.class, FcmTokenService.class})
+class FcmTokenUpsertConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 25;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private FcmTokenService fcmTokenService;
+
+    @Autowired
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private FcmTokenCache fcmTokenCache;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().username("tester").password("password").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fcmTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 기기로 동시에 등록해도 제약 위반 없이 한 행만 남는다")
+    void concurrentRegistrationConvergesToOneRow() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    try {
+                        fcmTokenService.saveOrUpdateToken(user.getId(),
+                                new FcmTokenRequest("token-" + thread + "-" + i, "chrome-mac"));
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(failures).isEmpty();
+        List<FcmToken> tokens = fcmTokenRepository.findAll();
+        assertThat(tokens).hasSize(1);
+        assertThat(tokens.get(0).getDeviceInfo()).isEqualTo("chrome-mac");
+        assertThat(tokens.get(0).getToken()).startsWith("token-");
+    }
+
+    @Test
+    @DisplayName("기존 기기로 다시 등록하면 토큰만 갱신된다")
+    void updatesTokenOfExistingDevice() {
+        fcmTokenService.saveOrUpdateToken(user.getId(), new FcmTokenRequest("old-token", "chrome-mac"));
+        fcmTokenService.saveOrUpdateToken(user.getId(), new FcmTokenRequest("new-token", "chrome-mac"));
+        fcmTokenService.saveOrUpdateToken(user.getId(), new FcmTokenRequest("phone-token", "android"));
+
+        assertThat(fcmTokenRepository.findSnapshotsByUserId(user.getId()))
+                .extracting("token")
+                .containsExactlyInAnyOrder("new-token", "phone-token");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자 - USER_NOT_FOUND")
+    void unknownUser() {
+        assertThatThrownBy(() -> fcmTokenService.saveOrUpdateToken(user.getId() + 1000,
+                new FcmTokenRequest("token", "chrome-mac")))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.USER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,228 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutbox;
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutboxStatus;
+import com.bumil.audio_fall_care.domain.fcm.repository.PushOutboxJdbcRepository;
+import com.bumil.audio_fall_care.domain.fcm.repository.PushOutboxRepository;
+import com.bumil.audio_fall_care.global.config.JpaAuditingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * outbox 선점 쿼리(FOR UPDATE SKIP LOCKED)를 실제 PostgreSQL에서 확인한다.
+ * 두 트랜잭션이 동시에 잠금을 잡아야 하므로 테스트 트랜잭션은 사용하지 않는다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaAuditingConfig.class, PushOutboxService.class, PushOutboxJdbcRepository.class})
+class PushOutboxClaimConcurrencyTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private PushOutboxService pushOutboxService;
+
+    @Autowired
+    private PushOutboxRepository pushOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        pushOutboxRepository.deleteAll();
+    }
+
+    private PushOutbox save(LocalDateTime nextAttemptAt) {
+        return pushOutboxRepository.save(PushOutbox.builder()
+                .userId(1L)
+                .title("낙상 감지")
+                .body("거실에서 낙상이 감지되었습니다.")
+                .nextAttemptAt(nextAttemptAt)
+                .build());
+    }
+
+    private PushOutbox saveSent(LocalDateTime sentAt) {
+        PushOutbox outbox = PushOutbox.builder()
+                .userId(1L)
+                .title("낙상 감지")
+                .body("거실에서 낙상이 감지되었습니다.")
+                .nextAttemptAt(sentAt)
+                .build();
+        outbox.markSent(sentAt);
+        return pushOutboxRepository.save(outbox);
+    }
+
+    private List<Long> ids(List<PushOutbox> outboxes) {
+        return outboxes.stream().map(PushOutbox::getId).toList();
+    }
+
+    @Test
+    @DisplayName("동시에 선점한 두 트랜잭션은 서로 겹치지 않는 행을 받는다")
+    void concurrentClaimsAreDisjoint() throws Exception {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        for (int i = 0; i < 6; i++) {
+            save(past.plusSeconds(i));
+        }
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        // 첫 트랜잭션은 3건을 잠근 채로 두 번째 트랜잭션이 끝날 때까지 커밋하지 않는다.
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() -> tx.execute(status -> {
+            List<Long> claimed = ids(pushOutboxRepository.findDueForUpdate(LocalDateTime.now(), 3));
+            firstLocked.countDown();
+            try {
+                secondDone.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return claimed;
+        }));
+
+        assertThat(firstLocked.await(10, TimeUnit.SECONDS)).isTrue();
+        List<Long> second = tx.execute(status ->
+                ids(pushOutboxRepository.findDueForUpdate(LocalDateTime.now(), 10)));
+        secondDone.countDown();
+        List<Long> firstIds = first.get(10, TimeUnit.SECONDS);
+
+        assertThat(firstIds).hasSize(3);
+        assertThat(second).hasSize(3).doesNotContainAnyElementsOf(firstIds);
+    }
+
+    @Test
+    @DisplayName("단건 선점 - 다른 트랜잭션이 잠근 행은 대기 없이 빈 결과를 받는다")
+    void claimByIdSkipsLockedRow() throws Exception {
+        Long outboxId = save(LocalDateTime.now()).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> tx.execute(status -> {
+            boolean claimed = pushOutboxRepository.findClaimableByIdForUpdate(outboxId, LocalDateTime.now()).isPresent();
+            firstLocked.countDown();
+            try {
+                secondDone.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return claimed;
+        }));
+
+        assertThat(firstLocked.await(10, TimeUnit.SECONDS)).isTrue();
+        boolean secondClaimed = Boolean.TRUE.equals(tx.execute(status ->
+                pushOutboxRepository.findClaimableByIdForUpdate(outboxId, LocalDateTime.now()).isPresent()));
+        secondDone.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(secondClaimed).isFalse();
+    }
+
+    @Test
+    @DisplayName("선점 - 전송 완료 행과 아직 시각이 도래하지 않은 행은 건너뛰고, 가져온 행은 lease만큼 미룬다")
+    void claimDueSkipsSentAndNotYetDue() {
+        LocalDateTime now = LocalDateTime.now();
+        Long dueId = save(now.minusSeconds(10)).getId();
+        save(now.plusMinutes(5));
+        saveSent(now.minusMinutes(1));
+
+        List<PushOutbox> claimed = pushOutboxService.claimDue(10);
+
+        assertThat(ids(claimed)).containsExactly(dueId);
+        PushOutbox reloaded = pushOutboxRepository.findById(dueId).orElseThrow();
+        assertThat(reloaded.getAttempts()).isEqualTo(1);
+        assertThat(reloaded.getNextAttemptAt()).isAfter(now);
+        assertThat(pushOutboxService.claimDue(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단건 선점 - 처음 전송하는 행은 가져오고, lease 중이거나 백오프 중인 행은 가져오지 않는다")
+    void claimByIdRespectsLeaseAndBackoff() {
+        LocalDateTime now = LocalDateTime.now();
+        // enqueue 직후처럼 relay 수거만 lease만큼 미뤄 둔 행
+        Long freshId = save(now.plusSeconds(30)).getId();
+        Long leasedId = save(now.minusSeconds(1)).getId();
+        PushOutbox leased = pushOutboxService.claimDue(10).get(0);
+
+        assertThat(pushOutboxService.claim(freshId)).isPresent();
+        assertThat(pushOutboxService.claim(freshId)).isEmpty();
+        assertThat(pushOutboxService.claim(leasedId)).isEmpty();
+
+        pushOutboxService.recordFailure(leasedId, leased.getClaimToken(), "UNAVAILABLE");
+        assertThat(pushOutboxService.claim(leasedId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송 도중 lease가 끝나 다른 relay가 가져가면, 늦게 끝난 쪽은 lease를 연장하지도 결과를 기록하지도 못한다")
+    void leaseExpiresWhileSendIsRunning() {
+        Long outboxId = save(LocalDateTime.now().minusSeconds(1)).getId();
+        PushOutbox slow = pushOutboxService.claimDue(10).get(0);
+
+        // 첫 relay의 전송이 lease보다 오래 걸린 상황
+        jdbcTemplate.update("UPDATE push_outbox SET next_attempt_at = ? WHERE id = ?",
+                LocalDateTime.now().minusSeconds(1), outboxId);
+        PushOutbox fast = pushOutboxService.claimDue(10).get(0);
+        assertThat(fast.getClaimToken()).isNotEqualTo(slow.getClaimToken());
+
+        assertThat(pushOutboxService.renewLease(outboxId, slow.getClaimToken())).isFalse();
+        pushOutboxService.recordFailure(outboxId, slow.getClaimToken(), "DEADLINE_EXCEEDED");
+        PushOutbox afterStaleFailure = pushOutboxRepository.findById(outboxId).orElseThrow();
+        assertThat(afterStaleFailure.getLastError()).isNull();
+        assertThat(afterStaleFailure.getClaimToken()).isEqualTo(fast.getClaimToken());
+
+        pushOutboxService.markSent(outboxId, fast.getClaimToken());
+        pushOutboxService.markSent(outboxId, slow.getClaimToken());
+
+        PushOutbox sent = pushOutboxRepository.findById(outboxId).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(PushOutboxStatus.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정리 - 기준 시각 이전에 전송 완료된 행만 삭제한다")
+    void purgeSentDeletesOnlyBeforeCutoff() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        saveSent(cutoff.minusHours(1));
+        Long recentSentId = saveSent(cutoff.plusHours(1)).getId();
+        Long pendingId = save(cutoff.minusDays(1)).getId();
+
+        int deleted = pushOutboxService.purgeSent(cutoff);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(pushOutboxRepository.findAll())
+                .extracting(PushOutbox::getId)
+                .containsExactlyInAnyOrder(recentSentId, pendingId);
+        assertThat(pushOutboxRepository.findById(recentSentId).orElseThrow().getStatus())
+                .isEqualTo(PushOutboxStatus.SENT);
+    }
+}
@@ -0,0 +1,157 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutbox;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PushOutboxRelayTest {
+
+    @InjectMocks
+    private PushOutboxRelay pushOutboxRelay;
+
+    @Mock
+    private PushOutboxService pushOutboxService;
+
+    @Mock
+    private FcmServiceInterface fcmService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pushOutboxRelay, "batchSize", 2);
+        ReflectionTestUtils.setField(pushOutboxRelay, "retentionDays", 7);
+        lenient().when(pushOutboxService.renewLease(anyLong(), anyString())).thenReturn(true);
+    }
+
+    private PushOutbox outbox(Long id, Long userId) {
+        return PushOutbox.builder()
+                .id(id)
+                .userId(userId)
+                .title("낙상 감지")
+                .body("본문 " + id)
+                .attempts(1)
+                .nextAttemptAt(LocalDateTime.now().plusSeconds(30))
+                .claimToken("claim-" + id)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("주기 재전송")
+    class RelayDue {
+
+        @Test
+        @DisplayName("한 건의 전송 예외가 나머지 배치 전송을 막지 않는다")
+        void failureDoesNotDropRestOfBatch() {
+            given(pushOutboxService.claimDue(2))
+                    .willReturn(List.of(outbox(1L, 10L), outbox(2L, 20L)))
+                    .willReturn(List.of(outbox(3L, 30L)));
+            willThrow(new BusinessException(ErrorCode.FCM_SEND_FAILED))
+                    .given(fcmService).sendToUser(eq(10L), anyString(), anyString());
+
+            pushOutboxRelay.relayDue();
+
+            verify(pushOutboxService).recordFailure(eq(1L), eq("claim-1"), anyString());
+            verify(pushOutboxService, never()).markSent(eq(1L), anyString());
+            verify(pushOutboxService).markSent(2L, "claim-2");
+            verify(pushOutboxService).markSent(3L, "claim-3");
+            verify(pushOutboxService, times(2)).claimDue(2);
+        }
+
+        @Test
+        @DisplayName("런타임 예외도 실패로 기록하고 다음 행으로 넘어간다")
+        void unexpectedExceptionIsRecorded() {
+            given(pushOutboxService.claimDue(2))
+                    .willReturn(List.of(outbox(1L, 10L), outbox(2L, 20L)))
+                    .willReturn(List.of());
+            willThrow(new IllegalStateException("connection reset"))
+                    .given(fcmService).sendToUser(eq(10L), anyString(), anyString());
+
+            pushOutboxRelay.relayDue();
+
+            verify(pushOutboxService).recordFailure(1L, "claim-1", "connection reset");
+            verify(pushOutboxService).markSent(2L, "claim-2");
+        }
+
+        @Test
+        @DisplayName("배치보다 적게 가져오면 더 조회하지 않는다")
+        void stopsWhenBatchNotFull() {
+            given(pushOutboxService.claimDue(2)).willReturn(List.of(outbox(1L, 10L)));
+
+            pushOutboxRelay.relayDue();
+
+            verify(pushOutboxService, times(1)).claimDue(2);
+            verify(pushOutboxService).markSent(1L, "claim-1");
+        }
+
+        @Test
+        @DisplayName("앞선 전송이 길어져 lease가 끝난 사이 다른 relay가 가져간 행은 다시 보내지 않는다")
+        void skipsRowReclaimedWhileEarlierSendWasRunning() {
+            given(pushOutboxService.claimDue(2)).willReturn(List.of(outbox(1L, 10L), outbox(2L, 20L)));
+            given(pushOutboxService.renewLease(1L, "claim-1")).willReturn(true);
+            // 1번 전송이 lease보다 오래 걸려, 2번을 보내기 전 다른 relay가 새 토큰으로 선점했다.
+            given(pushOutboxService.renewLease(2L, "claim-2")).willReturn(false);
+
+            pushOutboxRelay.relayDue();
+
+            verify(fcmService).sendToUser(eq(10L), anyString(), anyString());
+            verify(fcmService, never()).sendToUser(eq(20L), anyString(), anyString());
+            verify(pushOutboxService).markSent(1L, "claim-1");
+            verify(pushOutboxService, never()).markSent(eq(2L), anyString());
+            verify(pushOutboxService, never()).recordFailure(eq(2L), anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("즉시 전송")
+    class Deliver {
+
+        @Test
+        @DisplayName("이미 선점되었거나 전송된 행이면 아무것도 보내지 않는다")
+        void skipsWhenNotClaimed() {
+            given(pushOutboxService.claim(1L)).willReturn(Optional.empty());
+
+            pushOutboxRelay.deliver(1L);
+
+            verify(fcmService, never()).sendToUser(anyLong(), anyString(), anyString());
+        }
+    }
+
+    @Test
+    @DisplayName("정리 - 보존 기간 이전에 전송 완료된 행만 삭제하도록 기준 시각을 넘긴다")
+    void purgeSentUsesRetentionCutoff() {
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+
+        pushOutboxRelay.purgeSent();
+
+        verify(pushOutboxService).purgeSent(captor.capture());
+        assertThat(captor.getValue())
+                .isCloseTo(LocalDateTime.now().minusDays(7), within(2, ChronoUnit.SECONDS));
+    }
+}
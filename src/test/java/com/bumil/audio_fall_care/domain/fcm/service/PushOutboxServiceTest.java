@@ -0,0 +1,177 @@
+package com.bumil.audio_fall_care.domain.fcm.service;
+
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutbox;
+import com.bumil.audio_fall_care.domain.fcm.entity.PushOutboxStatus;
+import com.bumil.audio_fall_care.domain.fcm.repository.PushOutboxJdbcRepository;
+import com.bumil.audio_fall_care.domain.fcm.repository.PushOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PushOutboxServiceTest {
+
+    private static final String CLAIM_TOKEN = "claim-token";
+
+    @InjectMocks
+    private PushOutboxService pushOutboxService;
+
+    @Mock
+    private PushOutboxRepository pushOutboxRepository;
+
+    @Mock
+    private PushOutboxJdbcRepository pushOutboxJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pushOutboxService, "leaseSeconds", 30L);
+        ReflectionTestUtils.setField(pushOutboxService, "maxAttempts", 8);
+        ReflectionTestUtils.setField(pushOutboxService, "backoffBaseSeconds", 5L);
+        ReflectionTestUtils.setField(pushOutboxService, "backoffMaxSeconds", 600L);
+    }
+
+    private PushOutbox claimedOutbox(int attempts) {
+        PushOutbox outbox = PushOutbox.builder()
+                .id(1L)
+                .userId(10L)
+                .title("낙상 감지")
+                .body("거실에서 낙상이 감지되었습니다.")
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().plusSeconds(30))
+                .claimToken(CLAIM_TOKEN)
+                .build();
+        given(pushOutboxRepository.findByIdForUpdate(1L)).willReturn(Optional.of(outbox));
+        return outbox;
+    }
+
+    @Nested
+    @DisplayName("전송 실패 기록")
+    class RecordFailure {
+
+        @Test
+        @DisplayName("첫 실패 - 기본 간격 뒤로 재시도를 예약하고 오류를 남긴다")
+        void firstFailureUsesBaseBackoff() {
+            PushOutbox outbox = claimedOutbox(1);
+
+            pushOutboxService.recordFailure(1L, CLAIM_TOKEN, "UNAVAILABLE");
+
+            assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.PENDING);
+            assertThat(outbox.getLastError()).isEqualTo("UNAVAILABLE");
+            assertThat(outbox.getNextAttemptAt())
+                    .isCloseTo(LocalDateTime.now().plusSeconds(5), within(2, ChronoUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("시도 횟수마다 간격이 두 배로 늘어난다")
+        void backoffDoublesPerAttempt() {
+            PushOutbox outbox = claimedOutbox(4);
+
+            pushOutboxService.recordFailure(1L, CLAIM_TOKEN, "UNAVAILABLE");
+
+            assertThat(outbox.getNextAttemptAt())
+                    .isCloseTo(LocalDateTime.now().plusSeconds(40), within(2, ChronoUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("간격은 최대값을 넘지 않는다")
+        void backoffIsCapped() {
+            ReflectionTestUtils.setField(pushOutboxService, "maxAttempts", 100);
+            PushOutbox outbox = claimedOutbox(50);
+
+            pushOutboxService.recordFailure(1L, CLAIM_TOKEN, "UNAVAILABLE");
+
+            assertThat(outbox.getNextAttemptAt())
+                    .isCloseTo(LocalDateTime.now().plusSeconds(600), within(2, ChronoUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 FAILED로 전환하고 재시도를 예약하지 않는다")
+        void marksFailedAtMaxAttempts() {
+            PushOutbox outbox = claimedOutbox(8);
+            LocalDateTime leaseUntil = outbox.getNextAttemptAt();
+
+            pushOutboxService.recordFailure(1L, CLAIM_TOKEN, "INTERNAL");
+
+            assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.FAILED);
+            assertThat(outbox.getLastError()).isEqualTo("INTERNAL");
+            assertThat(outbox.getNextAttemptAt()).isEqualTo(leaseUntil);
+        }
+
+        @Test
+        @DisplayName("최대 시도 직전까지는 PENDING을 유지한다")
+        void staysPendingBeforeMaxAttempts() {
+            PushOutbox outbox = claimedOutbox(7);
+
+            pushOutboxService.recordFailure(1L, CLAIM_TOKEN, "UNAVAILABLE");
+
+            assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("긴 오류 메시지는 컬럼 길이(500자)에 맞춰 자른다")
+        void truncatesLongError() {
+            PushOutbox outbox = claimedOutbox(1);
+
+            pushOutboxService.recordFailure(1L, CLAIM_TOKEN, "x".repeat(1000));
+
+            assertThat(outbox.getLastError()).hasSize(500);
+        }
+
+        @Test
+        @DisplayName("lease가 끝나 다른 relay가 다시 선점한 행은 기록하지 않는다")
+        void ignoresFailureFromStaleClaim() {
+            PushOutbox outbox = claimedOutbox(1);
+            LocalDateTime leaseUntil = outbox.getNextAttemptAt();
+
+            pushOutboxService.recordFailure(1L, "expired-claim-token", "UNAVAILABLE");
+
+            assertThat(outbox.getLastError()).isNull();
+            assertThat(outbox.getNextAttemptAt()).isEqualTo(leaseUntil);
+        }
+    }
+
+    @Nested
+    @DisplayName("전송 완료 기록")
+    class MarkSent {
+
+        @Test
+        @DisplayName("선점 토큰이 일치하면 SENT로 바꾼다")
+        void marksSentForCurrentClaim() {
+            PushOutbox outbox = claimedOutbox(1);
+
+            pushOutboxService.markSent(1L, CLAIM_TOKEN);
+
+            assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.SENT);
+            assertThat(outbox.getSentAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("다른 relay가 다시 선점한 행은 그쪽 결과를 따르도록 두고 기록하지 않는다")
+        void ignoresStaleClaim() {
+            PushOutbox outbox = claimedOutbox(1);
+
+            pushOutboxService.markSent(1L, "expired-claim-token");
+
+            assertThat(outbox.getStatus()).isEqualTo(PushOutboxStatus.PENDING);
+            assertThat(outbox.getSentAt()).isNull();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.bumil.audio_fall_care.domain.history.repository;
+
+import com.bumil.audio_fall_care.domain.history.entity.FallDailyRollup;
+import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderRepository;
+import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.domain.user.repository.UserRepository;
+import com.bumil.audio_fall_care.global.config.JpaAuditingConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * db/rollup 백필 스크립트를 실제 PostgreSQL에서 실행해 본다.
+ * 스크립트가 자체 트랜잭션(BEGIN/COMMIT)을 쓰므로 테스트 트랜잭션은 사용하지 않는다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaAuditingConfig.class, FallDailyRollupJdbcRepository.class})
+class FallDailyRollupBackfillScriptTest {
+
+    private static final String SCRIPT = "db/rollup/backfill_fall_daily_rollups.sql";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FallDailyRollupJdbcRepository fallDailyRollupJdbcRepository;
+
+    @Autowired
+    private FallDailyRollupRepository fallDailyRollupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecorderRepository recorderRepository;
+
+    @Autowired
+    private FallHistoryRepository fallHistoryRepository;
+
+    @Test
+    @DisplayName("배포 후 증분 집계가 이미 있어도 이전 이력까지 중복 없이 집계하고, 다시 실행해도 같다")
+    void backfillsAlongsideIncrementalRollups() throws Exception {
+        User user = userRepository.save(User.builder().username("tester").password("password").build());
+        Recorder recorder = recorderRepository.save(
+                Recorder.builder().user(user).deviceName("거실").status(RecorderStatus.CONNECTED).build());
+        LocalDateTime day = LocalDateTime.now().minusDays(3).withHour(10);
+
+        // 집계 테이블 도입 이전의 이력
+        for (int i = 0; i < 3; i++) {
+            fallHistoryRepository.save(FallHistory.builder()
+                    .user(user).recorder(recorder).confidence(0.5).soundType("thud")
+                    .detectedAt(day.plusMinutes(i)).build());
+        }
+        // 배포 직후 스크립트 실행 전에 들어와 증분 집계된 이력
+        fallHistoryRepository.save(FallHistory.builder()
+                .user(user).recorder(recorder).confidence(0.9).soundType("thud")
+                .detectedAt(day.plusMinutes(10)).build());
+        fallDailyRollupJdbcRepository.upsertAll(List.of(FallDailyRollup.builder()
+                .userId(user.getId()).recorderId(recorder.getId()).day(day.toLocalDate()).soundType("thud")
+                .fallCount(1L).confidenceSum(0.9).build()), LocalDateTime.now());
+
+        String script = new ClassPathResource(SCRIPT).getContentAsString(StandardCharsets.UTF_8);
+        jdbcTemplate.execute(script);
+
+        List<FallDailyRollup> rollups = fallDailyRollupRepository.findAll();
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getFallCount()).isEqualTo(4);
+        assertThat(rollups.get(0).getConfidenceSum()).isCloseTo(2.4, offset(1e-9));
+
+        jdbcTemplate.execute(script);
+
+        assertThat(fallDailyRollupRepository.findAll())
+                .singleElement()
+                .satisfies(rollup -> assertThat(rollup.getFallCount()).isEqualTo(4));
+    }
+}
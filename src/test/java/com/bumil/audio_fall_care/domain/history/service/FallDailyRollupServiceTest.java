@@ -0,0 +1,165 @@
+package com.bumil.audio_fall_care.domain.history.service;
+
+import com.bumil.audio_fall_care.domain.history.dto.FallHistoryRangeStatsResponse;
+import com.bumil.audio_fall_care.domain.history.dto.FallHistoryStatsResponse;
+import com.bumil.audio_fall_care.domain.history.entity.FallDailyRollup;
+import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import com.bumil.audio_fall_care.domain.history.repository.FallDailyRollupJdbcRepository;
+import com.bumil.audio_fall_care.domain.history.repository.FallDailyRollupRepository;
+import com.bumil.audio_fall_care.domain.history.repository.FallDailyRollupSummary;
+import com.bumil.audio_fall_care.domain.history.repository.FallHistoryStatsProjection;
+import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FallDailyRollupServiceTest {
+
+    @InjectMocks
+    private FallDailyRollupService fallDailyRollupService;
+
+    @Mock
+    private FallDailyRollupRepository fallDailyRollupRepository;
+
+    @Mock
+    private FallDailyRollupJdbcRepository fallDailyRollupJdbcRepository;
+
+    private void setId(Object entity, Long id) {
+        try {
+            Field idField = entity.getClass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private FallHistory createHistory(User user, Recorder recorder, String soundType,
+                                      double confidence, LocalDateTime detectedAt) {
+        return FallHistory.builder()
+                .user(user).recorder(recorder)
+                .confidence(confidence).soundType(soundType)
+                .detectedAt(detectedAt)
+                .build();
+    }
+
+    private FallDailyRollupSummary createSummary(LocalDate day, String soundType, long count, double confidenceSum) {
+        FallDailyRollupSummary summary = mock(FallDailyRollupSummary.class);
+        given(summary.getDay()).willReturn(day);
+        given(summary.getSoundType()).willReturn(soundType);
+        given(summary.getFallCount()).willReturn(count);
+        given(summary.getConfidenceSum()).willReturn(confidenceSum);
+        return summary;
+    }
+
+    @Test
+    @DisplayName("같은 일자/리코더/소리 유형의 이력은 하나의 증분으로 합쳐서 반영")
+    @SuppressWarnings("unchecked")
+    void incrementGroupsByKey() {
+        User user = User.builder().username("testuser").password("password").build();
+        setId(user, 1L);
+        Recorder recorder = Recorder.builder().user(user).deviceName("거실").status(RecorderStatus.CONNECTED).build();
+        setId(recorder, 1L);
+        LocalDateTime morning = LocalDateTime.of(2025, 6, 15, 9, 0);
+
+        fallDailyRollupService.increment(List.of(
+                createHistory(user, recorder, "thud", 0.9, morning),
+                createHistory(user, recorder, "thud", 0.7, morning.plusHours(3)),
+                createHistory(user, recorder, "scream", 0.8, morning),
+                createHistory(user, recorder, "thud", 0.6, morning.plusDays(1))
+        ));
+
+        ArgumentCaptor<List<FallDailyRollup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fallDailyRollupJdbcRepository).upsertAll(captor.capture(), any(LocalDateTime.class));
+
+        List<FallDailyRollup> deltas = captor.getValue();
+        assertThat(deltas).hasSize(3);
+        assertThat(deltas.get(0).getSoundType()).isEqualTo("scream");
+        assertThat(deltas.get(1).getSoundType()).isEqualTo("thud");
+        assertThat(deltas.get(1).getDay()).isEqualTo(LocalDate.of(2025, 6, 15));
+        assertThat(deltas.get(1).getFallCount()).isEqualTo(2L);
+        assertThat(deltas.get(1).getConfidenceSum()).isEqualTo(1.6, offset(1e-9));
+        assertThat(deltas.get(2).getDay()).isEqualTo(LocalDate.of(2025, 6, 16));
+    }
+
+    @Test
+    @DisplayName("통계 조회 - 평균 신뢰도는 신뢰도 합계 / 건수")
+    void getStats() {
+        FallHistoryStatsProjection projection = mock(FallHistoryStatsProjection.class);
+        given(projection.getTotalCount()).willReturn(4L);
+        given(projection.getRecentWeekCount()).willReturn(1L);
+        given(projection.getRecentMonthCount()).willReturn(3L);
+        given(projection.getConfidenceSum()).willReturn(3.2);
+        given(fallDailyRollupRepository.aggregateStatsByUserId(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(projection);
+
+        FallHistoryStatsResponse stats = fallDailyRollupService.getStats(1L);
+
+        assertThat(stats.totalCount()).isEqualTo(4);
+        assertThat(stats.recentWeekCount()).isEqualTo(1);
+        assertThat(stats.recentMonthCount()).isEqualTo(3);
+        assertThat(stats.averageConfidence()).isEqualTo(0.8, offset(1e-9));
+    }
+
+    @Nested
+    @DisplayName("기간별 통계 조회")
+    class GetRangeStats {
+
+        @Test
+        @DisplayName("일자별 건수는 빈 날을 0으로 채우고, 소리 유형별로 합산")
+        void success() {
+            LocalDate from = LocalDate.of(2025, 6, 1);
+            LocalDate to = LocalDate.of(2025, 6, 3);
+            List<FallDailyRollupSummary> summaries = List.of(
+                    createSummary(from, "thud", 2, 1.8),
+                    createSummary(to, "scream", 1, 0.6),
+                    createSummary(to, "thud", 1, 0.8)
+            );
+            given(fallDailyRollupRepository.summarizeByUserIdAndDayBetween(1L, from, to)).willReturn(summaries);
+
+            FallHistoryRangeStatsResponse result = fallDailyRollupService.getRangeStats(1L, from, to);
+
+            assertThat(result.totalCount()).isEqualTo(4);
+            assertThat(result.averageConfidence()).isEqualTo(0.8, offset(1e-9));
+            assertThat(result.soundTypeCounts()).containsEntry("thud", 3L).containsEntry("scream", 1L);
+            assertThat(result.daily()).hasSize(3);
+            assertThat(result.daily().get(0).count()).isEqualTo(2);
+            assertThat(result.daily().get(1).count()).isZero();
+            assertThat(result.daily().get(2).count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("시작일이 종료일보다 늦으면 INVALID_DATE_RANGE")
+        void invalidRange() {
+            assertThatThrownBy(() -> fallDailyRollupService.getRangeStats(
+                    1L, LocalDate.of(2025, 6, 3), LocalDate.of(2025, 6, 1)))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_DATE_RANGE));
+        }
+    }
+}
@@ -8,7 +8,9 @@ import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
 import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
 import com.bumil.audio_fall_care.domain.user.entity.User;
 import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.CursorPageResponse;
 import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.bumil.audio_fall_care.global.common.KeysetCursor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
@@ -24,8 +27,6 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -38,6 +39,15 @@ class FallHistoryServiceTest {
     @Mock
     private FallHistoryRepository fallHistoryRepository;
 
+    @Mock
+    private FallDailyRollupService fallDailyRollupService;
+
+    @Mock
+    private FallHistoryStatsCache fallHistoryStatsCache;
+
+    @Mock
+    private FallTrendService fallTrendService;
+
     private void setId(Object entity, Long id) {
         try {
             Field idField = entity.getClass().getDeclaredField("id");
@@ -71,22 +81,60 @@ class FallHistoryServiceTest {
         return history;
     }
 
-    @Test
+    @Nested
     @DisplayName("낙상 이력 목록 조회")
-    void getHistories() {
-        User user = createUser(1L);
-        Recorder recorder = createRecorder(1L, user);
-        List<FallHistory> histories = List.of(
-                createHistory(1L, user, recorder),
-                createHistory(2L, user, recorder)
-        );
+    class GetHistories {
 
-        given(fallHistoryRepository.findByUserIdOrderByDetectedAtDesc(1L)).willReturn(histories);
+        @Test
+        @DisplayName("첫 페이지 조회 - 다음 페이지가 있으면 마지막 항목 기준 커서 반환")
+        void firstPage() {
+            User user = createUser(1L);
+            Recorder recorder = createRecorder(1L, user);
+            List<FallHistory> histories = List.of(
+                    createHistory(3L, user, recorder),
+                    createHistory(2L, user, recorder),
+                    createHistory(1L, user, recorder)
+            );
+
+            given(fallHistoryRepository.findFirstPageByUserId(1L, Limit.of(3)))
+                    .willReturn(histories.stream().map(FallHistoryResponse::from).toList());
+
+            CursorPageResponse<FallHistoryResponse> result = fallHistoryService.getHistories(1L, null, 2);
+
+            assertThat(result.content()).hasSize(2);
+            assertThat(result.content().get(0).deviceName()).isEqualTo("거실");
+            assertThat(result.hasNext()).isTrue();
+            KeysetCursor nextCursor = KeysetCursor.decode(result.nextCursor());
+            assertThat(nextCursor.id()).isEqualTo(2L);
+            assertThat(nextCursor.timestamp()).isEqualTo(histories.get(1).getDetectedAt());
+        }
 
-        List<FallHistoryResponse> result = fallHistoryService.getHistories(1L);
+        @Test
+        @DisplayName("커서 이후 페이지 조회 - 마지막 페이지면 커서 없음")
+        void nextPage() {
+            User user = createUser(1L);
+            Recorder recorder = createRecorder(1L, user);
+            LocalDateTime detectedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            String cursor = new KeysetCursor(detectedAt, 5L).encode();
 
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).deviceName()).isEqualTo("거실");
+            given(fallHistoryRepository.findPageByUserIdBefore(1L, detectedAt, 5L, Limit.of(21)))
+                    .willReturn(List.of(FallHistoryResponse.from(createHistory(4L, user, recorder))));
+
+            CursorPageResponse<FallHistoryResponse> result = fallHistoryService.getHistories(1L, cursor, null);
+
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서 - INVALID_CURSOR")
+        void invalidCursor() {
+            assertThatThrownBy(() -> fallHistoryService.getHistories(1L, "not-a-cursor", 20))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_CURSOR));
+        }
     }
 
     @Nested
@@ -100,7 +148,8 @@ class FallHistoryServiceTest {
             Recorder recorder = createRecorder(1L, user);
             FallHistory history = createHistory(10L, user, recorder);
 
-            given(fallHistoryRepository.findById(10L)).willReturn(Optional.of(history));
+            given(fallHistoryRepository.findResponseByIdAndUserId(10L, 1L))
+                    .willReturn(Optional.of(FallHistoryResponse.from(history)));
 
             FallHistoryResponse result = fallHistoryService.getHistory(1L, 10L);
 
@@ -111,7 +160,8 @@ class FallHistoryServiceTest {
         @Test
         @DisplayName("존재하지 않는 이력 - FALL_HISTORY_NOT_FOUND")
         void notFound() {
-            given(fallHistoryRepository.findById(999L)).willReturn(Optional.empty());
+            given(fallHistoryRepository.findResponseByIdAndUserId(999L, 1L)).willReturn(Optional.empty());
+            given(fallHistoryRepository.existsById(999L)).willReturn(false);
 
             assertThatThrownBy(() -> fallHistoryService.getHistory(1L, 999L))
                     .isInstanceOf(BusinessException.class)
@@ -122,11 +172,8 @@ class FallHistoryServiceTest {
         @Test
         @DisplayName("다른 사용자의 이력 조회 - FALL_HISTORY_NOT_OWNED")
         void notOwned() {
-            User owner = createUser(1L);
-            Recorder recorder = createRecorder(1L, owner);
-            FallHistory history = createHistory(10L, owner, recorder);
-
-            given(fallHistoryRepository.findById(10L)).willReturn(Optional.of(history));
+            given(fallHistoryRepository.findResponseByIdAndUserId(10L, 999L)).willReturn(Optional.empty());
+            given(fallHistoryRepository.existsById(10L)).willReturn(true);
 
             assertThatThrownBy(() -> fallHistoryService.getHistory(999L, 10L))
                     .isInstanceOf(BusinessException.class)
@@ -151,6 +198,8 @@ class FallHistoryServiceTest {
             fallHistoryService.deleteHistory(1L, 10L);
 
             verify(fallHistoryRepository).delete(history);
+            verify(fallDailyRollupService).decrement(history);
+            verify(fallHistoryStatsCache).evict(1L);
         }
 
         @Test
@@ -170,18 +219,13 @@ class FallHistoryServiceTest {
     }
 
     @Test
-    @DisplayName("통계 조회")
+    @DisplayName("통계 조회 - 일자별 집계에서 조회")
     void getStats() {
-        given(fallHistoryRepository.countByUserId(1L)).willReturn(10L);
-        given(fallHistoryRepository.countByUserIdAndDetectedAtAfter(eq(1L), any(LocalDateTime.class)))
-                .willReturn(3L, 7L);
-        given(fallHistoryRepository.findAverageConfidenceByUserId(1L)).willReturn(0.88);
+        FallHistoryStatsResponse expected = new FallHistoryStatsResponse(10, 3, 7, 0.88);
+        given(fallDailyRollupService.getStats(1L)).willReturn(expected);
 
         FallHistoryStatsResponse stats = fallHistoryService.getStats(1L);
 
-        assertThat(stats.totalCount()).isEqualTo(10);
-        assertThat(stats.recentWeekCount()).isEqualTo(3);
-        assertThat(stats.recentMonthCount()).isEqualTo(7);
-        assertThat(stats.averageConfidence()).isEqualTo(0.88);
+        assertThat(stats).isEqualTo(expected);
     }
 }
@@ -0,0 +1,80 @@
+package com.bumil.audio_fall_care.domain.history.service;
+
+import com.bumil.audio_fall_care.domain.history.dto.FallTrendPoint;
+import com.bumil.audio_fall_care.domain.history.dto.FallTrendResponse;
+import com.bumil.audio_fall_care.domain.history.repository.FallTrendJdbcRepository;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class FallTrendServiceTest {
+
+    @InjectMocks
+    private FallTrendService fallTrendService;
+
+    @Mock
+    private FallTrendJdbcRepository fallTrendJdbcRepository;
+
+    @Test
+    @DisplayName("시간 단위 추이는 원본 이력에서 [from 00:00, to+1 00:00) 범위로 조회")
+    void hourlyTrend() {
+        LocalDate day = LocalDate.of(2025, 6, 15);
+        List<FallTrendPoint> points = List.of(new FallTrendPoint(day.atTime(9, 0), 1L, "thud", 2));
+        given(fallTrendJdbcRepository.findHourlyTrend(1L, day.atStartOfDay(), day.plusDays(1).atStartOfDay()))
+                .willReturn(points);
+
+        FallTrendResponse result = fallTrendService.getTrend(1L, day, day, "HOUR");
+
+        assertThat(result.bucket()).isEqualTo("hour");
+        assertThat(result.points()).isEqualTo(points);
+    }
+
+    @Test
+    @DisplayName("주 단위 추이는 일자별 집계에서 조회")
+    void weeklyTrend() {
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 6, 30);
+        List<FallTrendPoint> points = List.of(
+                new FallTrendPoint(LocalDateTime.of(2025, 6, 2, 0, 0), 1L, "thud", 5));
+        given(fallTrendJdbcRepository.findRollupTrend(1L, "week", from, to)).willReturn(points);
+
+        FallTrendResponse result = fallTrendService.getTrend(1L, from, to, "week");
+
+        assertThat(result.bucket()).isEqualTo("week");
+        assertThat(result.points()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("시간 단위 최대 기간 초과 - INVALID_DATE_RANGE")
+    void hourlyRangeTooLong() {
+        assertThatThrownBy(() -> fallTrendService.getTrend(
+                1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1), "hour"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.INVALID_DATE_RANGE));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 집계 단위 - INVALID_TREND_BUCKET")
+    void invalidBucket() {
+        assertThatThrownBy(() -> fallTrendService.getTrend(
+                1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2), "month"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.INVALID_TREND_BUCKET));
+    }
+}
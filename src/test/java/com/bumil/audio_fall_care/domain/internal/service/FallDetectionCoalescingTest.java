@@ -0,0 +1,150 @@
+package com.bumil.audio_fall_care.domain.internal.service;
+
+import com.bumil.audio_fall_care.domain.alert.entity.Alert;
+import com.bumil.audio_fall_care.domain.alert.repository.AlertJdbcRepository;
+import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
+import com.bumil.audio_fall_care.domain.alert.service.AlertStreamPublisher;
+import com.bumil.audio_fall_care.domain.alert.service.UnreadAlertCounter;
+import com.bumil.audio_fall_care.domain.fcm.service.PushOutboxService;
+import com.bumil.audio_fall_care.domain.history.repository.FallHistoryJdbcRepository;
+import com.bumil.audio_fall_care.domain.history.repository.FallHistoryRepository;
+import com.bumil.audio_fall_care.domain.history.service.FallDailyRollupService;
+import com.bumil.audio_fall_care.domain.history.service.FallHistoryStatsCache;
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionRequest;
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionResponse;
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot;
+import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderLockJdbcRepository;
+import com.bumil.audio_fall_care.domain.recorder.service.RecorderCache;
+import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.global.config.JpaAuditingConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * /api/internal/fall 경로(FallDetectionGuard → InternalService)로 들어온 서로 다른 감지가
+ * 중복 제거에 걸리지 않고 모두 낙상 이력에 기록되며 하나의 알림으로 병합되는지 실제 PostgreSQL에서 확인한다.
+ * 가드의 Redis는 SET NX 동작만 흉내 낸다. Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaAuditingConfig.class, InternalService.class, RecorderLockJdbcRepository.class,
+        FallHistoryJdbcRepository.class, AlertJdbcRepository.class})
+class FallDetectionCoalescingTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private InternalService internalService;
+
+    @Autowired
+    private FallHistoryRepository fallHistoryRepository;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @MockitoBean
+    private RecorderCache recorderCache;
+
+    @MockitoBean
+    private PushOutboxService pushOutboxService;
+
+    @MockitoBean
+    private FallDailyRollupService fallDailyRollupService;
+
+    @MockitoBean
+    private FallHistoryStatsCache fallHistoryStatsCache;
+
+    @MockitoBean
+    private AlertStreamPublisher alertStreamPublisher;
+
+    @MockitoBean
+    private UnreadAlertCounter unreadAlertCounter;
+
+    private FallDetectionGuard fallDetectionGuard;
+    private Recorder recorder;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        User user = em.persist(User.builder().username("tester").password("password").build());
+        recorder = em.persist(Recorder.builder().user(user).deviceName("거실").status(RecorderStatus.CONNECTED).build());
+        em.flush();
+        given(recorderCache.get(recorder.getId())).willReturn(Optional.of(
+                new RecorderSnapshot(recorder.getId(), user.getId(), "거실", RecorderStatus.CONNECTED)));
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        Set<String> reservedKeys = new HashSet<>();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willAnswer(invocation -> reservedKeys.add(invocation.getArgument(0)));
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).willReturn(1L);
+
+        fallDetectionGuard = new FallDetectionGuard(redisTemplate,
+                new ObjectMapper().registerModule(new JavaTimeModule()), true, 30, 10, 0.5);
+    }
+
+    private FallDetectionResponse receive(FallDetectionRequest request) {
+        return fallDetectionGuard.guard(request, () -> internalService.processFallDetection(request));
+    }
+
+    @Test
+    @DisplayName("eventId 없이 2초 간격으로 들어온 두 감지 - 이력 2건, 알림 1건(감지 2회, 최고 신뢰도)")
+    void distinctDetectionsAreRecordedAndCoalesced() {
+        LocalDateTime detectedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        FallDetectionResponse first = receive(new FallDetectionRequest(recorder.getId(), 0.8, "thud", detectedAt, null));
+        FallDetectionResponse second = receive(new FallDetectionRequest(recorder.getId(), 0.95, "thud", detectedAt.plusSeconds(2), null));
+
+        assertThat(fallHistoryRepository.count()).isEqualTo(2);
+        assertThat(second.historyId()).isNotEqualTo(first.historyId());
+        assertThat(second.alertId()).isEqualTo(first.alertId());
+
+        List<Alert> alerts = alertRepository.findAll();
+        assertThat(alerts).hasSize(1);
+        assertThat(alerts.get(0).getEventCount()).isEqualTo(2);
+        assertThat(alerts.get(0).getMaxConfidence()).isEqualTo(0.95);
+        verify(pushOutboxService, times(1)).enqueue(any());
+    }
+}
@@ -0,0 +1,186 @@
+package com.bumil.audio_fall_care.domain.internal.service;
+
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionRequest;
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionResponse;
+import com.bumil.audio_fall_care.global.common.BusinessException;
+import com.bumil.audio_fall_care.global.common.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FallDetectionGuardTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private FallDetectionGuard fallDetectionGuard;
+
+    private final FallDetectionRequest request =
+            new FallDetectionRequest(1L, 0.95, "thud", LocalDateTime.of(2025, 6, 15, 14, 30), "evt-1");
+
+    private final FallDetectionResponse response = new FallDetectionResponse(
+            10L, 20L, 1L, 100L, 0.95, "thud", LocalDateTime.of(2025, 6, 15, 14, 30));
+
+    @BeforeEach
+    void setUp() {
+        fallDetectionGuard = new FallDetectionGuard(redisTemplate, objectMapper, true, 30, 10, 0.5);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("최초 요청은 처리 후 응답을 멱등 키에 저장")
+    @SuppressWarnings("unchecked")
+    void firstRequestIsProcessedAndStored() throws Exception {
+        given(valueOperations.setIfAbsent(eq("FALL:IDEM:1:E:evt-1"), eq("PENDING"), any(Duration.class)))
+                .willReturn(true);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).willReturn(1L);
+
+        FallDetectionResponse result = fallDetectionGuard.guard(request, () -> response);
+
+        assertThat(result).isEqualTo(response);
+        verify(valueOperations).set(eq("FALL:IDEM:1:E:evt-1"), eq(objectMapper.writeValueAsString(response)),
+                any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("처리 완료된 중복 요청은 DB 처리 없이 최초 응답 반환")
+    void duplicateReturnsStoredResponse() throws Exception {
+        AtomicInteger processed = new AtomicInteger();
+        given(valueOperations.setIfAbsent(eq("FALL:IDEM:1:E:evt-1"), eq("PENDING"), any(Duration.class)))
+                .willReturn(false);
+        given(valueOperations.get("FALL:IDEM:1:E:evt-1")).willReturn(objectMapper.writeValueAsString(response));
+
+        FallDetectionResponse result = fallDetectionGuard.guard(request, () -> {
+            processed.incrementAndGet();
+            return response;
+        });
+
+        assertThat(result).isEqualTo(response);
+        assertThat(processed).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("처리 중인 중복 요청 - FALL_DETECTION_IN_PROGRESS")
+    void duplicateInProgress() {
+        given(valueOperations.setIfAbsent(eq("FALL:IDEM:1:E:evt-1"), eq("PENDING"), any(Duration.class)))
+                .willReturn(false);
+        given(valueOperations.get("FALL:IDEM:1:E:evt-1")).willReturn("PENDING");
+
+        assertThatThrownBy(() -> fallDetectionGuard.guard(request, () -> response))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.FALL_DETECTION_IN_PROGRESS));
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 소진 - FALL_DETECTION_RATE_LIMITED, 멱등 키 해제")
+    @SuppressWarnings("unchecked")
+    void rateLimited() {
+        given(valueOperations.setIfAbsent(eq("FALL:IDEM:1:E:evt-1"), eq("PENDING"), any(Duration.class)))
+                .willReturn(true);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).willReturn(0L);
+
+        assertThatThrownBy(() -> fallDetectionGuard.guard(request, () -> response))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.FALL_DETECTION_RATE_LIMITED));
+        verify(redisTemplate).delete("FALL:IDEM:1:E:evt-1");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 검사 없이 처리 (fail-open)")
+    void redisUnavailableFailsOpen() {
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        FallDetectionResponse result = fallDetectionGuard.guard(request, () -> response);
+
+        assertThat(result).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("eventId 없이 2초 간격의 서로 다른 감지 - 둘 다 처리한다")
+    @SuppressWarnings("unchecked")
+    void distinctDetectionsWithoutEventIdAreBothProcessed() {
+        FallDetectionRequest first = new FallDetectionRequest(1L, 0.9, "thud", LocalDateTime.of(2025, 6, 15, 14, 30, 0), null);
+        FallDetectionRequest second = new FallDetectionRequest(1L, 0.95, "thud", LocalDateTime.of(2025, 6, 15, 14, 30, 2), null);
+        given(valueOperations.setIfAbsent(eq("FALL:IDEM:1:D:2025-06-15T14:30:0.9:thud"), eq("PENDING"), any(Duration.class)))
+                .willReturn(true);
+        given(valueOperations.setIfAbsent(eq("FALL:IDEM:1:D:2025-06-15T14:30:02:0.95:thud"), eq("PENDING"), any(Duration.class)))
+                .willReturn(true);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).willReturn(1L);
+        AtomicInteger processed = new AtomicInteger();
+
+        fallDetectionGuard.guard(first, () -> {
+            processed.incrementAndGet();
+            return response;
+        });
+        fallDetectionGuard.guard(second, () -> {
+            processed.incrementAndGet();
+            return response;
+        });
+
+        assertThat(processed).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("eventId와 detectedAt이 모두 없으면 중복 검사 없이 레이트 리밋만 적용")
+    @SuppressWarnings("unchecked")
+    void noRetryKeyWithoutEventIdAndDetectedAt() {
+        FallDetectionRequest serverTimed = new FallDetectionRequest(1L, 0.9, "thud", null, null);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).willReturn(1L);
+
+        FallDetectionResponse result = fallDetectionGuard.guard(serverTimed, () -> response);
+
+        assertThat(result).isEqualTo(response);
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("충전 속도가 0 이하이면 생성 시점에 실패한다 (레이트 리밋이 조용히 꺼지지 않게)")
+    void rejectsNonPositiveRefillRate() {
+        assertThatThrownBy(() -> new FallDetectionGuard(redisTemplate, objectMapper, true, 30, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("refill-per-second");
+        assertThatThrownBy(() -> new FallDetectionGuard(redisTemplate, objectMapper, true, 30, 10, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("버킷 용량이 1 미만이면 생성 시점에 실패한다")
+    void rejectsCapacityBelowOne() {
+        assertThatThrownBy(() -> new FallDetectionGuard(redisTemplate, objectMapper, true, 30, 0, 0.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("capacity");
+    }
+}
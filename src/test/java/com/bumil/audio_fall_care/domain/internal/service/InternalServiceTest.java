@@ -1,16 +1,29 @@
 package com.bumil.audio_fall_care.domain.internal.service;
 
 import com.bumil.audio_fall_care.domain.alert.entity.Alert;
+import com.bumil.audio_fall_care.domain.alert.entity.AlertType;
+import com.bumil.audio_fall_care.domain.alert.repository.AlertJdbcRepository;
 import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
-import com.bumil.audio_fall_care.domain.fcm.service.FcmServiceInterface;
+import com.bumil.audio_fall_care.domain.alert.service.AlertStreamPublisher;
+import com.bumil.audio_fall_care.domain.alert.service.UnreadAlertCounter;
+import com.bumil.audio_fall_care.domain.fcm.dto.PushNotification;
+import com.bumil.audio_fall_care.domain.fcm.service.PushOutboxService;
 import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import com.bumil.audio_fall_care.domain.history.repository.FallHistoryJdbcRepository;
 import com.bumil.audio_fall_care.domain.history.repository.FallHistoryRepository;
+import com.bumil.audio_fall_care.domain.history.service.FallDailyRollupService;
+import com.bumil.audio_fall_care.domain.history.service.FallHistoryStatsCache;
+import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionBatchResponse;
 import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionRequest;
 import com.bumil.audio_fall_care.domain.internal.dto.FallDetectionResponse;
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot;
 import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
 import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderLockJdbcRepository;
 import com.bumil.audio_fall_care.domain.recorder.repository.RecorderRepository;
+import com.bumil.audio_fall_care.domain.recorder.service.RecorderCache;
 import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.domain.user.repository.UserRepository;
 import com.bumil.audio_fall_care.global.common.BusinessException;
 import com.bumil.audio_fall_care.global.common.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
@@ -19,14 +32,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.lang.reflect.Field;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,14 +62,51 @@ class InternalServiceTest {
     @Mock
     private RecorderRepository recorderRepository;
 
+    @Mock
+    private RecorderLockJdbcRepository recorderLockJdbcRepository;
+
+    @Mock
+    private RecorderCache recorderCache;
+
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private FallHistoryRepository fallHistoryRepository;
 
+    @Mock
+    private FallHistoryJdbcRepository fallHistoryJdbcRepository;
+
     @Mock
     private AlertRepository alertRepository;
 
     @Mock
-    private FcmServiceInterface fcmService;
+    private AlertJdbcRepository alertJdbcRepository;
+
+    @Mock
+    private PushOutboxService pushOutboxService;
+
+    @Mock
+    private FallDailyRollupService fallDailyRollupService;
+
+    @Mock
+    private FallHistoryStatsCache fallHistoryStatsCache;
+
+    @Mock
+    private AlertStreamPublisher alertStreamPublisher;
+
+    @Mock
+    private UnreadAlertCounter unreadAlertCounter;
+
+    private void setId(Object entity, Long id) {
+        try {
+            Field idField = entity.getClass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
     private User createUser() {
         return User.builder()
@@ -62,6 +123,25 @@ class InternalServiceTest {
                 .build();
     }
 
+    private void givenRecorder(Recorder recorder) {
+        RecorderSnapshot snapshot = new RecorderSnapshot(recorder.getId(), recorder.getUser().getId(),
+                recorder.getDeviceName(), recorder.getStatus());
+        given(recorderCache.get(1L)).willReturn(Optional.of(snapshot));
+        givenReferences(recorder);
+    }
+
+    private void givenRecorders(Recorder recorder) {
+        RecorderSnapshot snapshot = new RecorderSnapshot(recorder.getId(), recorder.getUser().getId(),
+                recorder.getDeviceName(), recorder.getStatus());
+        given(recorderCache.getAll(any())).willReturn(Map.of(recorder.getId(), snapshot));
+        givenReferences(recorder);
+    }
+
+    private void givenReferences(Recorder recorder) {
+        given(recorderRepository.getReferenceById(any())).willReturn(recorder);
+        given(userRepository.getReferenceById(any())).willReturn(recorder.getUser());
+    }
+
     @Test
     @DisplayName("detectedAt을 전송하면 해당 시간이 사용된다")
     void usesProvidedDetectedAt() {
@@ -69,18 +149,20 @@ class InternalServiceTest {
         Recorder recorder = createRecorder(user);
         LocalDateTime customTime = LocalDateTime.of(2025, 6, 15, 14, 30, 0);
 
-        given(recorderRepository.findById(1L)).willReturn(Optional.of(recorder));
+        givenRecorder(recorder);
         given(fallHistoryRepository.save(any(FallHistory.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
         given(alertRepository.save(any(Alert.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
-        FallDetectionRequest request = new FallDetectionRequest(1L, 0.95, "thud", customTime);
+        FallDetectionRequest request = new FallDetectionRequest(1L, 0.95, "thud", customTime, null);
         FallDetectionResponse response = internalService.processFallDetection(request);
 
         assertThat(response.detectedAt()).isEqualTo(customTime);
         verify(fallHistoryRepository).save(any(FallHistory.class));
         verify(alertRepository).save(any(Alert.class));
+        verify(pushOutboxService).enqueue(any(PushNotification.class));
+        verify(fallHistoryStatsCache).evict(user.getId());
     }
 
     @Test
@@ -90,13 +172,13 @@ class InternalServiceTest {
         Recorder recorder = createRecorder(user);
         LocalDateTime before = LocalDateTime.now();
 
-        given(recorderRepository.findById(1L)).willReturn(Optional.of(recorder));
+        givenRecorder(recorder);
         given(fallHistoryRepository.save(any(FallHistory.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
         given(alertRepository.save(any(Alert.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
-        FallDetectionRequest request = new FallDetectionRequest(1L, 0.85, "crash", null);
+        FallDetectionRequest request = new FallDetectionRequest(1L, 0.85, "crash", null, null);
         FallDetectionResponse response = internalService.processFallDetection(request);
 
         LocalDateTime after = LocalDateTime.now();
@@ -106,13 +188,162 @@ class InternalServiceTest {
     @Test
     @DisplayName("존재하지 않는 리코더 ID - BusinessException(RECORDER_NOT_FOUND)")
     void recorderNotFound() {
-        given(recorderRepository.findById(999L)).willReturn(Optional.empty());
+        given(recorderCache.get(999L)).willReturn(Optional.empty());
 
-        FallDetectionRequest request = new FallDetectionRequest(999L, 0.9, "thud", null);
+        FallDetectionRequest request = new FallDetectionRequest(999L, 0.9, "thud", null, null);
 
         assertThatThrownBy(() -> internalService.processFallDetection(request))
                 .isInstanceOf(BusinessException.class)
                 .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
                         .isEqualTo(ErrorCode.RECORDER_NOT_FOUND));
     }
+
+    @Test
+    @DisplayName("배치 수신 - 존재하지 않는 리코더 항목만 실패하고 나머지는 저장된다")
+    void batchSkipsUnknownRecorder() {
+        User user = createUser();
+        setId(user, 1L);
+        Recorder recorder = createRecorder(user);
+        setId(recorder, 1L);
+
+        givenRecorders(recorder);
+        given(fallHistoryJdbcRepository.batchInsert(anyList(), any(LocalDateTime.class))).willReturn(List.of(100L, 101L));
+        given(alertJdbcRepository.batchInsert(anyList(), any(LocalDateTime.class))).willReturn(List.of(200L, 201L));
+
+        List<FallDetectionRequest> requests = List.of(
+                new FallDetectionRequest(1L, 0.95, "thud", null, null),
+                new FallDetectionRequest(999L, 0.9, "crash", null, null),
+                new FallDetectionRequest(1L, 0.8, "crash", null, null)
+        );
+
+        FallDetectionBatchResponse response = internalService.processFallDetections(requests);
+
+        assertThat(response.requestedCount()).isEqualTo(3);
+        assertThat(response.successCount()).isEqualTo(2);
+        assertThat(response.failureCount()).isEqualTo(1);
+        assertThat(response.results().get(0).result().historyId()).isEqualTo(100L);
+        assertThat(response.results().get(1).success()).isFalse();
+        assertThat(response.results().get(1).errorCode()).isEqualTo(ErrorCode.RECORDER_NOT_FOUND.getCode());
+        assertThat(response.results().get(2).result().alertId()).isEqualTo(201L);
+        verify(pushOutboxService).enqueueAll(argThat(notifications -> notifications.size() == 2));
+        verify(recorderLockJdbcRepository, never()).lock(anyCollection());
+    }
+
+    @Test
+    @DisplayName("병합 윈도우 내 감지 - 기록은 남기고 기존 알림을 갱신하며 푸시는 다시 보내지 않는다")
+    void coalescesDetectionIntoOpenAlert() {
+        ReflectionTestUtils.setField(internalService, "coalesceWindowSeconds", 10L);
+        User user = createUser();
+        setId(user, 1L);
+        Recorder recorder = createRecorder(user);
+        setId(recorder, 1L);
+        LocalDateTime firstDetectedAt = LocalDateTime.of(2025, 6, 15, 14, 30, 0);
+        Alert openAlert = Alert.builder()
+                .user(user)
+                .recorder(recorder)
+                .type(AlertType.FALL)
+                .message("[낙상 감지] 거실 리코더에서 낙상이 감지되었습니다. (신뢰도: 80%, 소리 유형: thud)")
+                .maxConfidence(0.8)
+                .firstDetectedAt(firstDetectedAt)
+                .lastDetectedAt(firstDetectedAt)
+                .build();
+        setId(openAlert, 200L);
+
+        givenRecorder(recorder);
+        given(fallHistoryRepository.save(any(FallHistory.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(alertRepository.findRecentByRecorderIds(anyCollection(), eq(AlertType.FALL), any(LocalDateTime.class)))
+                .willReturn(List.of(openAlert));
+
+        FallDetectionRequest request = new FallDetectionRequest(1L, 0.95, "crash", firstDetectedAt.plusSeconds(3), null);
+        FallDetectionResponse response = internalService.processFallDetection(request);
+
+        assertThat(response.alertId()).isEqualTo(200L);
+        assertThat(openAlert.getEventCount()).isEqualTo(2);
+        assertThat(openAlert.getMaxConfidence()).isEqualTo(0.95);
+        assertThat(openAlert.getLastDetectedAt()).isEqualTo(firstDetectedAt.plusSeconds(3));
+        assertThat(openAlert.getMessage()).contains("최고 신뢰도: 95%", "감지 횟수: 2회");
+        verify(fallHistoryRepository).save(any(FallHistory.class));
+        verify(alertRepository, never()).save(any(Alert.class));
+        verify(pushOutboxService, never()).enqueue(any(PushNotification.class));
+        verify(unreadAlertCounter, never()).addAfterCommit(anyLong(), anyLong());
+        verify(alertStreamPublisher).publishAfterCommit(argThat(messages -> messages.size() == 1
+                && messages.get(0).alert().eventCount() == 2));
+        verify(recorderLockJdbcRepository).lock(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("병합 윈도우를 벗어난 감지 - 새 알림을 만들고 푸시를 기록한다")
+    void opensNewAlertOutsideWindow() {
+        ReflectionTestUtils.setField(internalService, "coalesceWindowSeconds", 10L);
+        User user = createUser();
+        Recorder recorder = createRecorder(user);
+        setId(recorder, 1L);
+        LocalDateTime firstDetectedAt = LocalDateTime.of(2025, 6, 15, 14, 30, 0);
+        Alert staleAlert = Alert.builder()
+                .user(user)
+                .recorder(recorder)
+                .type(AlertType.FALL)
+                .message("이전 알림")
+                .maxConfidence(0.8)
+                .firstDetectedAt(firstDetectedAt)
+                .lastDetectedAt(firstDetectedAt)
+                .build();
+
+        givenRecorder(recorder);
+        given(fallHistoryRepository.save(any(FallHistory.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(alertRepository.findRecentByRecorderIds(anyCollection(), eq(AlertType.FALL), any(LocalDateTime.class)))
+                .willReturn(List.of(staleAlert));
+        given(alertRepository.save(any(Alert.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        FallDetectionRequest request = new FallDetectionRequest(1L, 0.9, "thud", firstDetectedAt.plusSeconds(10), null);
+        internalService.processFallDetection(request);
+
+        assertThat(staleAlert.getEventCount()).isEqualTo(1);
+        verify(alertRepository).save(argThat(alert -> alert.getFirstDetectedAt().equals(firstDetectedAt.plusSeconds(10))));
+        verify(pushOutboxService).enqueue(any(PushNotification.class));
+    }
+
+    @Test
+    @DisplayName("배치 수신 - 같은 리코더의 연속 감지는 알림 하나로 병합되고 푸시도 한 건만 기록된다")
+    void batchCoalescesBurstPerRecorder() {
+        ReflectionTestUtils.setField(internalService, "coalesceWindowSeconds", 10L);
+        User user = createUser();
+        setId(user, 1L);
+        Recorder recorder = createRecorder(user);
+        setId(recorder, 1L);
+        LocalDateTime base = LocalDateTime.of(2025, 6, 15, 14, 30, 0);
+
+        givenRecorders(recorder);
+        given(fallHistoryJdbcRepository.batchInsert(anyList(), any(LocalDateTime.class)))
+                .willReturn(List.of(100L, 101L, 102L));
+        given(alertRepository.findRecentByRecorderIds(anyCollection(), eq(AlertType.FALL), any(LocalDateTime.class)))
+                .willReturn(List.of());
+        given(alertJdbcRepository.batchInsert(anyList(), any(LocalDateTime.class))).willReturn(List.of(200L, 201L));
+
+        List<FallDetectionRequest> requests = List.of(
+                new FallDetectionRequest(1L, 0.7, "thud", base.plusSeconds(2), null),
+                new FallDetectionRequest(1L, 0.9, "crash", base, null),
+                new FallDetectionRequest(1L, 0.8, "thud", base.plusSeconds(30), null)
+        );
+
+        FallDetectionBatchResponse response = internalService.processFallDetections(requests);
+
+        assertThat(response.successCount()).isEqualTo(3);
+        assertThat(response.results().get(0).result().alertId()).isEqualTo(200L);
+        assertThat(response.results().get(1).result().alertId()).isEqualTo(200L);
+        assertThat(response.results().get(2).result().alertId()).isEqualTo(201L);
+        verify(alertJdbcRepository).batchInsert(argThat(alerts -> alerts.size() == 2
+                && alerts.get(0).getEventCount() == 2
+                && alerts.get(0).getMaxConfidence() == 0.9
+                && alerts.get(0).getFirstDetectedAt().equals(base)), any(LocalDateTime.class));
+        verify(pushOutboxService).enqueueAll(argThat(notifications -> notifications.size() == 2));
+        verify(unreadAlertCounter).addAfterCommit(Map.of(1L, 2L));
+        verify(recorderLockJdbcRepository).lock(Set.of(1L));
+        verify(alertStreamPublisher).publishAfterCommit(argThat(messages -> messages.size() == 2
+                && messages.get(0).alert().id().equals(200L)
+                && messages.get(0).alert().eventCount() == 2));
+    }
 }
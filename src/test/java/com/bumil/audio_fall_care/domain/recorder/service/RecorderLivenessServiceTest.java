@@ -0,0 +1,161 @@
+package com.bumil.audio_fall_care.domain.recorder.service;
+
+import com.bumil.audio_fall_care.domain.alert.entity.AlertType;
+import com.bumil.audio_fall_care.domain.alert.repository.AlertJdbcRepository;
+import com.bumil.audio_fall_care.domain.alert.service.AlertStreamPublisher;
+import com.bumil.audio_fall_care.domain.alert.service.UnreadAlertCounter;
+import com.bumil.audio_fall_care.domain.fcm.service.PushOutboxService;
+import com.bumil.audio_fall_care.domain.recorder.dto.RecorderSnapshot;
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderRepository;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderStatusJdbcRepository;
+import com.bumil.audio_fall_care.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecorderLivenessServiceTest {
+
+    @InjectMocks
+    private RecorderLivenessService recorderLivenessService;
+
+    @Mock
+    private RecorderCache recorderCache;
+
+    @Mock
+    private RecorderLivenessTracker livenessTracker;
+
+    @Mock
+    private RecorderRepository recorderRepository;
+
+    @Mock
+    private RecorderStatusJdbcRepository recorderStatusJdbcRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AlertJdbcRepository alertJdbcRepository;
+
+    @Mock
+    private UnreadAlertCounter unreadAlertCounter;
+
+    @Mock
+    private PushOutboxService pushOutboxService;
+
+    @Mock
+    private AlertStreamPublisher alertStreamPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recorderLivenessService, "timeoutSeconds", 90L);
+    }
+
+    @Nested
+    @DisplayName("하트비트")
+    class Heartbeat {
+
+        @Test
+        @DisplayName("존재하는 리코더만 기록하고 DB에는 쓰지 않는다")
+        void touchesKnownRecorders() {
+            given(recorderCache.getAll(Set.of(1L, 999L))).willReturn(Map.of(
+                    1L, new RecorderSnapshot(1L, 10L, "거실 리코더", RecorderStatus.CONNECTED)));
+
+            Set<Long> accepted = recorderLivenessService.heartbeat(List.of(1L, 999L, 1L));
+
+            assertThat(accepted).containsExactly(1L);
+            verify(livenessTracker).touch(Set.of(1L));
+            verify(recorderRepository, never()).updateStatusByIdIn(anyCollection(), any(), any(), any());
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("DISCONNECTED 리코더의 하트비트 - CONNECTED로 복구하고 캐시를 무효화한다")
+        void reconnectsDisconnectedRecorder() {
+            given(recorderCache.getAll(Set.of(1L))).willReturn(Map.of(
+                    1L, new RecorderSnapshot(1L, 10L, "거실 리코더", RecorderStatus.DISCONNECTED)));
+            given(transactionTemplate.execute(any()))
+                    .willAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+
+            recorderLivenessService.heartbeat(List.of(1L));
+
+            verify(transactionTemplate).execute(any());
+            verify(recorderRepository).updateStatusByIdIn(eq(List.of(1L)), eq(RecorderStatus.DISCONNECTED),
+                    eq(RecorderStatus.CONNECTED), any(LocalDateTime.class));
+            verify(recorderCache).evict(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("스윕")
+    class Sweep {
+
+        @Test
+        @DisplayName("신호가 끊긴 리코더를 DISCONNECTED로 바꾸고 WARNING 알림을 만든다")
+        void disconnectsStaleRecorders() {
+            long now = 1_750_000_000_000L;
+            long cutoff = now - 90_000L;
+            given(livenessTracker.currentTimeMillis()).willReturn(now);
+            given(livenessTracker.findStale(cutoff, 500)).willReturn(Map.of(1L, cutoff - 1000L, 2L, cutoff - 500L));
+            // 2번 리코더는 다른 인스턴스가 먼저 전환했거나 이미 DISCONNECTED
+            given(recorderStatusJdbcRepository.disconnect(anyCollection(), any(LocalDateTime.class)))
+                    .willReturn(List.of(new RecorderSnapshot(1L, 10L, "거실 리코더", RecorderStatus.DISCONNECTED)));
+            given(alertJdbcRepository.batchInsert(anyList(), any(LocalDateTime.class))).willReturn(List.of(300L));
+
+            int disconnected = recorderLivenessService.sweep(500);
+
+            assertThat(disconnected).isEqualTo(1);
+            verify(alertJdbcRepository).batchInsert(argThat(alerts -> alerts.size() == 1
+                    && alerts.get(0).getType() == AlertType.WARNING
+                    && alerts.get(0).getMessage().contains("거실 리코더")), any(LocalDateTime.class));
+            verify(unreadAlertCounter).addAfterCommit(Map.of(10L, 1L));
+            verify(pushOutboxService).enqueueAll(argThat(notifications -> notifications.size() == 1
+                    && notifications.get(0).alertId().equals(300L)));
+            verify(alertStreamPublisher).publishAfterCommit(argThat(messages -> messages.size() == 1
+                    && messages.get(0).userId().equals(10L)));
+            verify(recorderCache).evict(1L);
+            verify(livenessTracker).forget(Set.of(1L, 2L), cutoff);
+        }
+
+        @Test
+        @DisplayName("신호가 끊긴 리코더가 없으면 DB를 건드리지 않는다")
+        void noStaleRecorders() {
+            given(livenessTracker.currentTimeMillis()).willReturn(1_750_000_000_000L);
+            given(livenessTracker.findStale(anyLong(), eq(500))).willReturn(Map.of());
+
+            int disconnected = recorderLivenessService.sweep(500);
+
+            assertThat(disconnected).isZero();
+            verify(recorderStatusJdbcRepository, never()).disconnect(anyCollection(), any());
+            verify(alertJdbcRepository, never()).batchInsert(anyList(), any());
+        }
+    }
+}
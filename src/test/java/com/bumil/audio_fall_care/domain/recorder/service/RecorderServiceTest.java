@@ -1,6 +1,9 @@
 package com.bumil.audio_fall_care.domain.recorder.service;
 
+import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
 import com.bumil.audio_fall_care.domain.history.repository.FallHistoryRepository;
+import com.bumil.audio_fall_care.domain.history.service.FallDailyRollupService;
+import com.bumil.audio_fall_care.domain.history.service.FallHistoryStatsCache;
 import com.bumil.audio_fall_care.domain.recorder.dto.RecorderRegisterRequest;
 import com.bumil.audio_fall_care.domain.recorder.dto.RecorderResponse;
 import com.bumil.audio_fall_care.domain.recorder.dto.RecorderUpdateRequest;
@@ -26,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +47,18 @@ class RecorderServiceTest {
     @Mock
     private FallHistoryRepository fallHistoryRepository;
 
+    @Mock
+    private FallDailyRollupService fallDailyRollupService;
+
+    @Mock
+    private FallHistoryStatsCache fallHistoryStatsCache;
+
+    @Mock
+    private AlertRepository alertRepository;
+
+    @Mock
+    private RecorderCache recorderCache;
+
     private User createUser(Long id) {
         User user = User.builder()
                 .username("testuser")
@@ -127,6 +143,7 @@ class RecorderServiceTest {
 
             assertThat(response.deviceName()).isEqualTo("안방 리코더");
             assertThat(recorder.getDeviceName()).isEqualTo("안방 리코더");
+            verify(recorderCache).evict(1L);
         }
 
         @Test
@@ -158,4 +175,42 @@ class RecorderServiceTest {
                             .isEqualTo(ErrorCode.RECORDER_NOT_OWNED));
         }
     }
+
+    @Nested
+    @DisplayName("리코더 삭제")
+    class DeleteRecorder {
+
+        @Test
+        @DisplayName("삭제 성공 - 알림의 리코더 참조를 끊고 리코더 캐시를 무효화한다")
+        void success() {
+            User user = createUser(1L);
+            Recorder recorder = createRecorder(1L, user);
+
+            given(recorderRepository.findById(1L))
+                    .willReturn(Optional.of(recorder));
+
+            recorderService.deleteRecorder(user.getId(), 1L);
+
+            verify(alertRepository).detachRecorder(1L);
+            verify(recorderRepository).delete(recorder);
+            verify(recorderCache).evict(1L);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 리코더 삭제 시도 - RECORDER_NOT_OWNED")
+        void notOwned() {
+            User owner = createUser(1L);
+            Recorder recorder = createRecorder(1L, owner);
+
+            given(recorderRepository.findById(1L))
+                    .willReturn(Optional.of(recorder));
+
+            assertThatThrownBy(() -> recorderService.deleteRecorder(999L, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.RECORDER_NOT_OWNED));
+            verify(recorderRepository, never()).delete(any(Recorder.class));
+            verify(recorderCache, never()).evict(any());
+        }
+    }
 }
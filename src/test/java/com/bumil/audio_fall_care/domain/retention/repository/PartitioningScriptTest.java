@@ -0,0 +1,106 @@
+package com.bumil.audio_fall_care.domain.retention.repository;
+
+import com.bumil.audio_fall_care.domain.alert.entity.Alert;
+import com.bumil.audio_fall_care.domain.alert.entity.AlertType;
+import com.bumil.audio_fall_care.domain.alert.repository.AlertRepository;
+import com.bumil.audio_fall_care.domain.history.entity.FallHistory;
+import com.bumil.audio_fall_care.domain.history.repository.FallHistoryRepository;
+import com.bumil.audio_fall_care.domain.recorder.entity.Recorder;
+import com.bumil.audio_fall_care.domain.recorder.entity.RecorderStatus;
+import com.bumil.audio_fall_care.domain.recorder.repository.RecorderRepository;
+import com.bumil.audio_fall_care.domain.user.entity.User;
+import com.bumil.audio_fall_care.domain.user.repository.UserRepository;
+import com.bumil.audio_fall_care.global.config.JpaAuditingConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * db/partitioning 전환 스크립트를 Hibernate가 생성한 스키마(IDENTITY id)에 실제로 실행해 본다.
+ * 스크립트가 자체 트랜잭션(BEGIN/COMMIT)을 쓰므로 테스트 트랜잭션은 사용하지 않는다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaAuditingConfig.class, PartitionJdbcRepository.class})
+class PartitioningScriptTest {
+
+    private static final String SCRIPT = "db/partitioning/partition_fall_histories_and_alerts.sql";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PartitionJdbcRepository partitionJdbcRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecorderRepository recorderRepository;
+
+    @Autowired
+    private FallHistoryRepository fallHistoryRepository;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Test
+    @DisplayName("기존 행을 옮기고, 이후 INSERT는 기존 최대 ID 다음 값을 받는다")
+    void migratesHibernateGeneratedSchema() throws Exception {
+        User user = userRepository.save(User.builder().username("tester").password("password").build());
+        Recorder recorder = recorderRepository.save(
+                Recorder.builder().user(user).deviceName("거실").status(RecorderStatus.CONNECTED).build());
+        LocalDateTime base = LocalDateTime.now().minusMonths(2);
+        long lastHistoryId = 0;
+        long lastAlertId = 0;
+        for (int i = 0; i < 3; i++) {
+            lastHistoryId = fallHistoryRepository.save(FallHistory.builder()
+                    .user(user).recorder(recorder).confidence(0.9).soundType("thud")
+                    .detectedAt(base.plusDays(i * 20L)).build()).getId();
+            lastAlertId = alertRepository.save(Alert.builder()
+                    .user(user).recorder(recorder).type(AlertType.FALL).message("낙상 감지 " + i).build()).getId();
+        }
+
+        jdbcTemplate.execute(new ClassPathResource(SCRIPT).getContentAsString(StandardCharsets.UTF_8));
+
+        assertThat(partitionJdbcRepository.isPartitioned("fall_histories")).isTrue();
+        assertThat(partitionJdbcRepository.isPartitioned("alerts")).isTrue();
+        assertThat(partitionJdbcRepository.findAttachedPartitions("fall_histories"))
+                .contains("fall_histories_default", "fall_histories_p" + base.format(DateTimeFormatter.ofPattern("yyyyMM")));
+        assertThat(fallHistoryRepository.count()).isEqualTo(3);
+        assertThat(alertRepository.count()).isEqualTo(3);
+
+        FallHistory history = fallHistoryRepository.save(FallHistory.builder()
+                .user(user).recorder(recorder).confidence(0.8).soundType("thud")
+                .detectedAt(LocalDateTime.now()).build());
+        Alert alert = alertRepository.save(Alert.builder()
+                .user(user).recorder(recorder).type(AlertType.FALL).message("낙상 감지").build());
+
+        assertThat(history.getId()).isEqualTo(lastHistoryId + 1);
+        assertThat(alert.getId()).isEqualTo(lastAlertId + 1);
+    }
+}
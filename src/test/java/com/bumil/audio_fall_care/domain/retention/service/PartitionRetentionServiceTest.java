@@ -0,0 +1,94 @@
+package com.bumil.audio_fall_care.domain.retention.service;
+
+import com.bumil.audio_fall_care.domain.retention.repository.PartitionJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionRetentionServiceTest {
+
+    @Mock
+    private PartitionJdbcRepository partitionJdbcRepository;
+
+    @Mock
+    private PartitionArchiver partitionArchiver;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private PartitionRetentionService partitionRetentionService;
+
+    private final YearMonth currentMonth = YearMonth.of(2025, 6);
+
+    @BeforeEach
+    void setUp() {
+        partitionRetentionService = new PartitionRetentionService(
+                partitionJdbcRepository, partitionArchiver, redisTemplate, true, 2, 12, 6, true, true);
+    }
+
+    @Test
+    @DisplayName("다가올 파티션을 미리 만들고 보존 기간이 지난 파티션만 분리, 보관 후 삭제")
+    void detachesAndArchivesExpiredPartitions() throws IOException {
+        given(partitionJdbcRepository.isPartitioned("fall_histories")).willReturn(true);
+        given(partitionJdbcRepository.isPartitioned("alerts")).willReturn(false);
+        given(partitionJdbcRepository.findDetachedPartitions("fall_histories_p")).willReturn(List.of());
+        given(partitionJdbcRepository.findAttachedPartitions("fall_histories")).willReturn(List.of(
+                "fall_histories_default", "fall_histories_p202405", "fall_histories_p202406", "fall_histories_p202506"));
+
+        partitionRetentionService.maintain(currentMonth);
+
+        verify(partitionJdbcRepository).createMonthlyPartition("fall_histories", "fall_histories_p202506", currentMonth);
+        verify(partitionJdbcRepository).createMonthlyPartition("fall_histories", "fall_histories_p202508", currentMonth.plusMonths(2));
+        verify(partitionJdbcRepository).detachPartition("fall_histories", "fall_histories_p202405");
+        verify(partitionArchiver).export(RetentionTable.FALL_HISTORIES, "fall_histories_p202405");
+        verify(partitionJdbcRepository).dropTable("fall_histories_p202405");
+        verify(partitionJdbcRepository, never()).detachPartition("fall_histories", "fall_histories_p202406");
+        verify(partitionJdbcRepository, never()).detachPartition("fall_histories", "fall_histories_default");
+        verify(partitionJdbcRepository, never()).createMonthlyPartition(eq("alerts"), anyString(), any(YearMonth.class));
+    }
+
+    @Test
+    @DisplayName("내보내기 실패 - 분리된 테이블을 삭제하지 않는다")
+    void keepsDetachedTableWhenExportFails() throws IOException {
+        given(partitionJdbcRepository.isPartitioned("fall_histories")).willReturn(false);
+        given(partitionJdbcRepository.isPartitioned("alerts")).willReturn(true);
+        given(partitionJdbcRepository.findDetachedPartitions("alerts_p")).willReturn(List.of());
+        given(partitionJdbcRepository.findAttachedPartitions("alerts")).willReturn(List.of("alerts_p202411"));
+        given(partitionArchiver.export(RetentionTable.ALERTS, "alerts_p202411")).willThrow(new IOException("disk full"));
+
+        partitionRetentionService.maintain(currentMonth);
+
+        verify(partitionJdbcRepository).detachPartition("alerts", "alerts_p202411");
+        verify(partitionJdbcRepository, never()).dropTable(anyString());
+    }
+
+    @Test
+    @DisplayName("이전 실행에서 보관하지 못한 분리 테이블을 다시 보관")
+    void retriesLeftoverDetachedPartitions() throws IOException {
+        given(partitionJdbcRepository.isPartitioned("fall_histories")).willReturn(false);
+        given(partitionJdbcRepository.isPartitioned("alerts")).willReturn(true);
+        given(partitionJdbcRepository.findDetachedPartitions("alerts_p")).willReturn(List.of("alerts_p202410"));
+        given(partitionJdbcRepository.findAttachedPartitions("alerts")).willReturn(List.of());
+
+        partitionRetentionService.maintain(currentMonth);
+
+        verify(partitionArchiver).export(RetentionTable.ALERTS, "alerts_p202410");
+        verify(partitionJdbcRepository).dropTable("alerts_p202410");
+    }
+}
@@ -13,9 +13,11 @@ import static org.mockito.Mockito.*;
 class InternalApiKeyFilterTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RouteClassifier routeClassifier = new RouteClassifier(
+            new String[]{"/api/auth/login"}, new String[]{"/api/internal/**"});
 
     private InternalApiKeyFilter createFilter(String apiKey) throws Exception {
-        InternalApiKeyFilter filter = new InternalApiKeyFilter(objectMapper);
+        InternalApiKeyFilter filter = new InternalApiKeyFilter(objectMapper, routeClassifier);
         var field = InternalApiKeyFilter.class.getDeclaredField("internalApiKey");
         field.setAccessible(true);
         field.set(filter, apiKey);
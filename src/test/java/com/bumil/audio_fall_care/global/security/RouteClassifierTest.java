@@ -0,0 +1,52 @@
+package com.bumil.audio_fall_care.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteClassifierTest {
+
+    private final RouteClassifier routeClassifier = new RouteClassifier(
+            new String[]{"/api/auth/login", "POST /api/recorders", "/swagger-ui/**", "/api/*/public"},
+            new String[]{"/api/internal/**"}
+    );
+
+    @Test
+    @DisplayName("whitelist 경로는 PUBLIC")
+    void publicRoute() {
+        assertThat(routeClassifier.classify("POST", "/api/auth/login")).isEqualTo(RouteType.PUBLIC);
+        assertThat(routeClassifier.classify("GET", "/swagger-ui/index.html")).isEqualTo(RouteType.PUBLIC);
+        assertThat(routeClassifier.classify("GET", "/api/alerts/public")).isEqualTo(RouteType.PUBLIC);
+    }
+
+    @Test
+    @DisplayName("HTTP 메서드가 지정된 패턴은 해당 메서드만 PUBLIC")
+    void methodSpecificRoute() {
+        assertThat(routeClassifier.classify("POST", "/api/recorders")).isEqualTo(RouteType.PUBLIC);
+        assertThat(routeClassifier.classify("GET", "/api/recorders")).isEqualTo(RouteType.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("internal 경로는 하위 경로와 prefix 자체 모두 INTERNAL")
+    void internalRoute() {
+        assertThat(routeClassifier.classify("POST", "/api/internal/fall/batch")).isEqualTo(RouteType.INTERNAL);
+        assertThat(routeClassifier.classify("POST", "/api/internal")).isEqualTo(RouteType.INTERNAL);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 경로와 prefix만 같은 경로는 AUTHENTICATED")
+    void authenticatedRoute() {
+        assertThat(routeClassifier.classify("GET", "/api/histories")).isEqualTo(RouteType.AUTHENTICATED);
+        assertThat(routeClassifier.classify("POST", "/api/auth/login/extra")).isEqualTo(RouteType.AUTHENTICATED);
+        assertThat(routeClassifier.classify("GET", "/api/internalx/fall")).isEqualTo(RouteType.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("'**'가 마지막이 아닌 패턴은 기동 시 거부")
+    void rejectsUnsupportedPattern() {
+        assertThatThrownBy(() -> new RouteClassifier(new String[]{"/api/**/login"}, new String[]{}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
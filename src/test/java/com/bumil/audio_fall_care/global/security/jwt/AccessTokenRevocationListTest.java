@@ -0,0 +1,124 @@
+package com.bumil.audio_fall_care.global.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenRevocationListTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        revocationList = new AccessTokenRevocationList(redisTemplate, listenerContainer, meterRegistry,
+                1000, 0.01, "jwt:revoked");
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("jwt.revocation.checks").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Bloom filter에 없는 jti - Redis를 조회하지 않고 통과")
+    void bloomNegativeSkipsRedis() {
+        assertThat(revocationList.isRevoked("jti-1")).isFalse();
+
+        verify(redisTemplate, never()).hasKey(anyString());
+        assertThat(count("bloom_negative")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폐기 - Redis에 남은 유효 시간으로 기록하고, 이후 조회는 Redis에서 확인한다")
+    void revokesAndConfirms() {
+        Date expiration = new Date(System.currentTimeMillis() + 600_000L);
+        given(redisTemplate.hasKey("JWT:REVOKED:jti-1")).willReturn(true);
+
+        revocationList.revoke("jti-1", expiration);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("JWT:REVOKED:jti-1", "JWT:REVOKED")),
+                eq("jti-1"), anyString(), eq(String.valueOf(expiration.getTime())), eq("jwt:revoked"));
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(count("revoked")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 기록하지 않는다")
+    void ignoresExpiredToken() {
+        revocationList.revoke("jti-1", new Date(System.currentTimeMillis() - 1000L));
+
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(List.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("동기화 - Redis 폐기 목록으로 Bloom filter를 다시 만든다")
+    void syncLoadsRevokedTokens() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.zCard("JWT:REVOKED")).willReturn(1L);
+        given(zSetOperations.rangeByScore(eq("JWT:REVOKED"), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .willReturn(Set.of("jti-1"));
+        given(redisTemplate.hasKey("JWT:REVOKED:jti-1")).willReturn(true);
+
+        revocationList.sync();
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(revocationList.isRevoked("jti-2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 폐기 알림을 받으면 바로 반영한다")
+    void appliesRevocationMessage() {
+        given(redisTemplate.hasKey("JWT:REVOKED:jti-1")).willReturn(true);
+
+        revocationList.onMessage(new DefaultMessage("jwt:revoked".getBytes(StandardCharsets.UTF_8),
+                "jti-1".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Bloom filter에 걸렸는데 Redis 장애 - 폐기된 것으로 본다")
+    void failsClosedOnRedisError() {
+        given(redisTemplate.hasKey("JWT:REVOKED:jti-1")).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        revocationList.onMessage(new DefaultMessage("jwt:revoked".getBytes(StandardCharsets.UTF_8),
+                "jti-1".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+    }
+}
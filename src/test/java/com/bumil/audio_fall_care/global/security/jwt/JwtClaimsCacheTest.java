@@ -0,0 +1,80 @@
+package com.bumil.audio_fall_care.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtClaimsCacheTest {
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .subject("1")
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .build();
+    }
+
+    @Test
+    @DisplayName("만료 시각 전에는 캐시에서 응답한다")
+    void servesUntilExpiration() {
+        JwtClaimsCache cache = new JwtClaimsCache(100, Duration.ofMinutes(5));
+        Claims claims = claimsExpiringIn(60_000);
+
+        cache.put("token", claims);
+
+        assertThat(cache.get("token")).isSameAs(claims);
+        assertThat(cache.get("other-token")).isNull();
+    }
+
+    @Test
+    @DisplayName("항목은 토큰 만료 시각에 만료되어 만료된 토큰을 돌려주지 않는다")
+    void entryExpiresWithToken() throws Exception {
+        JwtClaimsCache cache = new JwtClaimsCache(100, Duration.ofMinutes(5));
+        cache.put("token", claimsExpiringIn(200));
+
+        Thread.sleep(400);
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료가 먼 토큰도 maxTtl 이후에는 캐시에서 빠진다")
+    void entryTtlIsCappedByMaxTtl() throws Exception {
+        JwtClaimsCache cache = new JwtClaimsCache(100, Duration.ofMillis(200));
+        cache.put("token", claimsExpiringIn(3_600_000));
+
+        Thread.sleep(400);
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 만료되었거나 만료 시각이 없는 Claims는 적재하지 않는다")
+    void ignoresExpiredOrUnboundedClaims() {
+        JwtClaimsCache cache = new JwtClaimsCache(100, Duration.ofMinutes(5));
+
+        cache.put("expired", claimsExpiringIn(-1_000));
+        cache.put("unbounded", Jwts.claims().subject("1").build());
+
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.get("unbounded")).isNull();
+    }
+
+    @Test
+    @DisplayName("maxSize가 0 이하이면 캐시를 사용하지 않는다")
+    void disabledWhenMaxSizeNotPositive() {
+        JwtClaimsCache disabled = new JwtClaimsCache(0, Duration.ofMinutes(5));
+        JwtClaimsCache negative = new JwtClaimsCache(-1, Duration.ofMinutes(5));
+
+        disabled.put("token", claimsExpiringIn(60_000));
+        negative.put("token", claimsExpiringIn(60_000));
+
+        assertThat(disabled.get("token")).isNull();
+        assertThat(negative.get("token")).isNull();
+    }
+}
@@ -0,0 +1,121 @@
+package com.bumil.audio_fall_care.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-which-is-long-enough-for-hs256";
+
+    private JwtUtil jwtUtil(long accessExp, long cacheMaxSize) {
+        return new JwtUtil(SECRET, accessExp, 1_209_600_000L, cacheMaxSize, 300L);
+    }
+
+    private JwtClaimsCache claimsCache(JwtUtil jwtUtil) {
+        return (JwtClaimsCache) ReflectionTestUtils.getField(jwtUtil, "claimsCache");
+    }
+
+    @Nested
+    @DisplayName("Access Token 검증 캐시")
+    class ParseAccessToken {
+
+        @Test
+        @DisplayName("검증된 Access Token은 캐시되어 같은 Claims를 돌려준다")
+        void cachesVerifiedAccessToken() {
+            JwtUtil jwtUtil = jwtUtil(3_600_000L, 100);
+            String token = jwtUtil.createAccessToken(1L, "tester");
+
+            Claims first = jwtUtil.parseAccessToken(token);
+
+            assertThat(jwtUtil.isAccessToken(first)).isTrue();
+            assertThat(claimsCache(jwtUtil).get(token)).isSameAs(first);
+            assertThat(jwtUtil.parseAccessToken(token)).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("캐시된 토큰도 만료 이후에는 캐시로 통과하지 않고 ExpiredJwtException")
+        void expiredTokenIsNeverServedFromCache() throws Exception {
+            JwtUtil jwtUtil = jwtUtil(2_000L, 100);
+            String token = jwtUtil.createAccessToken(1L, "tester");
+            jwtUtil.parseAccessToken(token);
+
+            Thread.sleep(3_000);
+
+            assertThat(claimsCache(jwtUtil).get(token)).isNull();
+            assertThatThrownBy(() -> jwtUtil.parseAccessToken(token)).isInstanceOf(ExpiredJwtException.class);
+        }
+
+        @Test
+        @DisplayName("Refresh Token은 캐시되지 않고 Access Token으로 인정되지 않는다")
+        void refreshTokenIsNeitherCachedNorAccepted() {
+            JwtUtil jwtUtil = jwtUtil(3_600_000L, 100);
+            String token = jwtUtil.createRefreshToken(1L, "family");
+
+            Claims claims = jwtUtil.parseAccessToken(token);
+
+            assertThat(jwtUtil.isAccessToken(claims)).isFalse();
+            assertThat(claimsCache(jwtUtil).get(token)).isNull();
+            assertThat(jwtUtil.parseAccessToken(token)).isNotSameAs(claims);
+        }
+
+        @Test
+        @DisplayName("서명을 변조한 토큰은 원본이 캐시되어 있어도 검증에 실패한다")
+        void tamperedSignatureMissesCache() {
+            JwtUtil jwtUtil = jwtUtil(3_600_000L, 100);
+            String token = jwtUtil.createAccessToken(1L, "tester");
+            jwtUtil.parseAccessToken(token);
+
+            int signatureStart = token.lastIndexOf('.') + 1;
+            int index = signatureStart + (token.length() - signatureStart) / 2;
+            char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+            String tampered = token.substring(0, index) + replacement + token.substring(index + 1);
+
+            assertThat(claimsCache(jwtUtil).get(tampered)).isNull();
+            assertThatThrownBy(() -> jwtUtil.parseAccessToken(tampered)).isInstanceOf(JwtException.class);
+        }
+
+        @Test
+        @DisplayName("페이로드를 변조한 토큰은 원본이 캐시되어 있어도 검증에 실패한다")
+        void tamperedPayloadMissesCache() {
+            JwtUtil jwtUtil = jwtUtil(3_600_000L, 100);
+            String token = jwtUtil.createAccessToken(1L, "tester");
+            jwtUtil.parseAccessToken(token);
+
+            String[] parts = token.split("\\.");
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                    .replace("\"uid\":1", "\"uid\":2");
+            String tampered = parts[0] + "."
+                    + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                    + "." + parts[2];
+
+            assertThat(tampered).isNotEqualTo(token);
+            assertThatThrownBy(() -> jwtUtil.parseAccessToken(tampered)).isInstanceOf(JwtException.class);
+            assertThat(claimsCache(jwtUtil).get(tampered)).isNull();
+        }
+
+        @Test
+        @DisplayName("max-size가 0이면 매번 검증한다")
+        void cacheDisabledWhenMaxSizeZero() {
+            JwtUtil jwtUtil = jwtUtil(3_600_000L, 0);
+            String token = jwtUtil.createAccessToken(1L, "tester");
+
+            Claims first = jwtUtil.parseAccessToken(token);
+            Claims second = jwtUtil.parseAccessToken(token);
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.getSubject()).isEqualTo(first.getSubject());
+            assertThat(claimsCache(jwtUtil).get(token)).isNull();
+        }
+    }
+}